@@ -0,0 +1,54 @@
+package com.example.task_management.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import com.example.task_management.TaskManagementApplication;
+import com.example.task_management.dto.request.TaskRequest;
+import com.example.task_management.model.TaskStatus;
+
+
+/**
+ * Starts the application for benchmarks: random port, SQL logging off, admission control off so that
+ * HTTP benchmarks measure throughput rather than the per-client rate limit.
+ */
+final class BenchmarkApplication {
+
+    private BenchmarkApplication() {
+    }
+
+    /**
+     * @param properties extra {@code key=value} properties; like the defaults below they are passed
+     *                   as command line arguments, so they override {@code application.properties}
+     */
+    static ConfigurableApplicationContext start(String... properties) {
+        List<String> args = new ArrayList<>(List.of("--server.port=0",
+                                                    "--spring.main.banner-mode=off",
+                                                    "--spring.jpa.show-sql=false",
+                                                    "--logging.level.root=WARN",
+                                                    "--logging.level.org.hibernate.SQL=OFF",
+                                                    "--task.admission.enabled=false"));
+        for (String property : properties) {
+            args.add("--" + property);
+        }
+
+        return new SpringApplicationBuilder(TaskManagementApplication.class)
+                .logStartupInfo(false)
+                .run(args.toArray(new String[0]));
+    }
+
+    static List<TaskRequest> requests(int count) {
+        TaskStatus[] statuses = TaskStatus.values();
+        List<TaskRequest> requests = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            requests.add(TaskRequest.builder()
+                                    .title("Benchmark task " + i)
+                                    .description("Description of benchmark task " + i + " with some more text in it")
+                                    .status(statuses[i % statuses.length])
+                                    .build());
+        }
+        return requests;
+    }
+
+}
@@ -0,0 +1,136 @@
+package com.example.task_management.benchmark;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+
+/**
+ * Compares a JMH JSON result with the stored baseline.
+ * <p>
+ * Usage: {@code BenchmarkComparison <baseline.json> <result.json> [threshold]}.
+ * Scores are compared as intervals, score ± the 99.9% error JMH reports: a benchmark regresses when
+ * the best end of its interval is worse than the worst end of the baseline interval by more than
+ * {@code threshold} (default 0.10), so that run-to-run noise alone does not fail the comparison.
+ * It also regresses when its normalized allocation ({@code gc.alloc.rate.norm}) grows by more than
+ * {@code threshold}. Benchmarks measured with other iteration or fork counts than their baseline are
+ * reported but not compared. A baseline entry whose error exceeds {@code threshold} of its score is rejected:
+ * its interval is too wide for a regression of that size to show, and it must be recorded again.
+ * The process exits with status 1 if any benchmark regressed or any baseline entry was rejected.
+ * </p>
+ */
+public final class BenchmarkComparison {
+
+    private static final String ALLOC_NORM = "gc.alloc.rate.norm";
+
+    private BenchmarkComparison() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Usage: BenchmarkComparison <baseline.json> <result.json> [threshold]");
+            System.exit(2);
+        }
+
+        ObjectMapper mapper = new ObjectMapper();
+        Map<String, JsonNode> baseline = index(mapper.readTree(new File(args[0])));
+        Map<String, JsonNode> current = index(mapper.readTree(new File(args[1])));
+        double threshold = args.length > 2 ? Double.parseDouble(args[2]) : 0.10;
+
+        int regressions = 0;
+        int rejected = 0;
+        System.out.printf("%-70s %24s %24s %9s %12s %12s%n",
+                          "Benchmark", "Baseline", "Current", "Change", "Alloc base", "Alloc now");
+
+        for (Map.Entry<String, JsonNode> entry : current.entrySet()) {
+            JsonNode now = entry.getValue();
+            JsonNode base = baseline.get(entry.getKey());
+            if (base == null) {
+                System.out.printf("%-70s %24s %24s%n", entry.getKey(), "-", interval(now));
+                continue;
+            }
+            if (!sameSettings(base, now)) {
+                System.out.printf("%-70s %24s %24s  NOT COMPARED (other iterations or forks)%n",
+                                  entry.getKey(), interval(base), interval(now));
+                continue;
+            }
+            if (error(base) > score(base) * threshold) {
+                System.out.printf("%-70s %24s %24s  NOISY BASELINE (error %.0f%% of the score)%n",
+                                  entry.getKey(), interval(base), interval(now), error(base) / score(base) * 100);
+                rejected++;
+                continue;
+            }
+
+            boolean higherIsBetter = "thrpt".equals(now.path("mode").asText());
+            double change = (score(now) - score(base)) / score(base);
+            boolean slower = higherIsBetter
+                    ? score(now) + error(now) < (score(base) - error(base)) * (1 - threshold)
+                    : score(now) - error(now) > (score(base) + error(base)) * (1 + threshold);
+
+            double allocBase = alloc(base);
+            double allocNow = alloc(now);
+            boolean allocates = allocBase >= 0 && allocNow > allocBase * (1 + threshold) && allocNow - allocBase > 16;
+
+            System.out.printf("%-70s %24s %24s %+8.1f%% %12.1f %12.1f%s%n",
+                              entry.getKey(), interval(base), interval(now), change * 100, allocBase, allocNow,
+                              slower || allocates ? "  REGRESSION" : "");
+            if (slower || allocates) regressions++;
+        }
+
+        if (regressions > 0) {
+            System.out.println(regressions + " benchmark(s) regressed by more than " + (threshold * 100) + "%");
+        }
+        if (rejected > 0) {
+            System.out.println(rejected + " baseline entries have an error above " + (threshold * 100)
+                               + "% of their score, record them again with more forks or iterations");
+        }
+        if (regressions > 0 || rejected > 0) {
+            System.exit(1);
+        }
+    }
+
+    private static Map<String, JsonNode> index(JsonNode results) {
+        Map<String, JsonNode> index = new LinkedHashMap<>();
+        for (JsonNode result : results) {
+            StringBuilder key = new StringBuilder(result.path("benchmark").asText()
+                                                        .replace("com.example.task_management.benchmark.", ""));
+            Iterator<Map.Entry<String, JsonNode>> params = result.path("params").fields();
+            while (params.hasNext()) {
+                Map.Entry<String, JsonNode> param = params.next();
+                key.append(':').append(param.getKey()).append('=').append(param.getValue().asText());
+            }
+            index.put(key.toString(), result);
+        }
+        return index;
+    }
+
+    private static double score(JsonNode result) {
+        return result.path("primaryMetric").path("score").asDouble();
+    }
+
+    // half-width of the 99.9% confidence interval; JMH reports NaN when there is a single sample
+    private static double error(JsonNode result) {
+        double error = result.path("primaryMetric").path("scoreError").asDouble(0);
+        return Double.isNaN(error) ? 0 : error;
+    }
+
+    private static String interval(JsonNode result) {
+        return String.format("%.3f +/- %.3f", score(result), error(result));
+    }
+
+    private static boolean sameSettings(JsonNode base, JsonNode now) {
+        return base.path("forks").asInt() == now.path("forks").asInt()
+               && base.path("measurementIterations").asInt() == now.path("measurementIterations").asInt()
+               && base.path("measurementTime").asText().equals(now.path("measurementTime").asText());
+    }
+
+    private static double alloc(JsonNode result) {
+        JsonNode metric = result.path("secondaryMetrics").path(ALLOC_NORM);
+        return metric.isMissingNode() ? -1 : metric.path("score").asDouble();
+    }
+
+}
@@ -0,0 +1,97 @@
+package com.example.task_management.benchmark;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+import org.apache.tomcat.util.threads.ThreadPoolExecutor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.boot.web.embedded.tomcat.TomcatWebServer;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import com.example.task_management.config.AsyncConfig;
+import com.example.task_management.service.TaskService;
+
+
+/**
+ * Latency of list requests under {@value #CLIENTS} concurrent clients, blocking ({@code /api/tasks})
+ * versus non-blocking ({@code /api/async/tasks}) handlers.
+ * <p>
+ * Sample-time mode reports the latency distribution. At the end the largest size reached by the
+ * Tomcat request pool and by the read pool is printed: the blocking API holds one Tomcat thread per
+ * in-flight request, the non-blocking one releases it and queues the work on the bounded read pool.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Threads(ConcurrentReadBenchmark.CLIENTS)
+@Fork(1)
+public class ConcurrentReadBenchmark {
+
+    static final int CLIENTS = 64;
+
+    private static final int TASKS = 10_000;
+
+    @Param({"sync", "async"})
+    private String api;
+
+    private ConfigurableApplicationContext context;
+    private HttpClient client;
+    private HttpRequest request;
+
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkApplication.start();
+        context.getBean(TaskService.class).createAll(BenchmarkApplication.requests(TASKS));
+        int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+
+        String path = "sync".equals(api) ? "/api/tasks" : "/api/async/tasks";
+        String credentials = Base64.getEncoder().encodeToString("admin:admin".getBytes(StandardCharsets.UTF_8));
+        client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path + "?status=PENDING&page=3&size=100"))
+                             .header("Authorization", "Basic " + credentials)
+                             .GET()
+                             .build();
+    }
+
+    @TearDown
+    public void tearDown() {
+        TomcatWebServer server = (TomcatWebServer) ((WebServerApplicationContext) context).getWebServer();
+        ThreadPoolExecutor tomcatPool = (ThreadPoolExecutor) server.getTomcat().getConnector()
+                                                                  .getProtocolHandler().getExecutor();
+        ThreadPoolTaskExecutor readPool = context.getBean(AsyncConfig.TASK_READ_EXECUTOR, ThreadPoolTaskExecutor.class);
+        System.out.println("largest pool sizes (" + api + "): tomcat=" + tomcatPool.getLargestPoolSize()
+                           + ", read=" + readPool.getThreadPoolExecutor().getLargestPoolSize());
+        context.close();
+    }
+
+    @Benchmark
+    public int list() throws Exception {
+        HttpResponse<byte[]> response = client.send(request, HttpResponse.BodyHandlers.ofByteArray());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("Unexpected status " + response.statusCode());
+        }
+        return response.body().length;
+    }
+
+}
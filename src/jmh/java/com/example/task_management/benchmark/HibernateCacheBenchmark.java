@@ -0,0 +1,120 @@
+package com.example.task_management.benchmark;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import com.example.task_management.dto.request.TaskRequest;
+import com.example.task_management.dto.response.TaskResponse;
+import com.example.task_management.factory.TaskFactory;
+import com.example.task_management.model.Task;
+import com.example.task_management.model.TaskStatus;
+import com.example.task_management.repository.TaskRepository;
+import com.example.task_management.service.TaskService;
+
+
+/**
+ * Hit-heavy reads with and without the Hibernate second-level and query cache
+ * ({@code task.hibernate-cache.enabled}).
+ * <p>
+ * Every read runs in a transaction of its own, as in a request. {@code findByIdHot} loads one of
+ * {@value #HOT_TASKS} tasks as an entity; the status page benchmarks read one of the first
+ * {@value #HOT_PAGES} pages of {@code PENDING} tasks, as DTOs or as entities. {@code statusPageReadMostly}
+ * updates a task every {@value #WRITE_INTERVAL} calls on average, which invalidates every cached page.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class HibernateCacheBenchmark {
+
+    private static final int HOT_TASKS = 100;
+    private static final int HOT_PAGES = 5;
+    private static final int PAGE_SIZE = 20;
+    private static final int WRITE_INTERVAL = 50;
+
+    @Param({"false", "true"})
+    private boolean cacheEnabled;
+
+    @Param("10000")
+    private int tasks;
+
+    private ConfigurableApplicationContext context;
+    private TaskService taskService;
+    private TaskRepository taskRepository;
+    private TaskFactory taskFactory;
+    private TransactionTemplate readOnlyTransaction;
+    private long firstId;
+
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkApplication.start("task.hibernate-cache.enabled=" + cacheEnabled);
+        taskService = context.getBean(TaskService.class);
+        taskRepository = context.getBean(TaskRepository.class);
+        taskFactory = context.getBean(TaskFactory.class);
+
+        readOnlyTransaction = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        readOnlyTransaction.setReadOnly(true);
+
+        for (int created = 0; created < tasks; created += 1000) {
+            taskService.createAll(BenchmarkApplication.requests(Math.min(1000, tasks - created)));
+        }
+        firstId = taskService.getDtoListAfter(null, "", "id", 1).getTasks().get(0).getId();
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    private static int hotPage() {
+        return ThreadLocalRandom.current().nextInt(HOT_PAGES);
+    }
+
+    @Benchmark
+    public Optional<Task> findByIdHot() {
+        return taskRepository.findById(firstId + ThreadLocalRandom.current().nextInt(HOT_TASKS));
+    }
+
+    @Benchmark
+    public List<TaskResponse> statusPageHot() {
+        return taskService.getDtoList(TaskStatus.PENDING, hotPage(), PAGE_SIZE);
+    }
+
+    @Benchmark
+    public List<TaskResponse> statusPageEntitiesHot() {
+        return readOnlyTransaction.execute(tx -> taskFactory.toDtoList(
+                taskRepository.findByStatus(TaskStatus.PENDING, PageRequest.of(hotPage(), PAGE_SIZE)).getContent()));
+    }
+
+    @Benchmark
+    public List<TaskResponse> statusPageReadMostly() {
+        if (ThreadLocalRandom.current().nextInt(WRITE_INTERVAL) == 0) {
+            // a new title and the same status, so that the page contents stay put
+            long id = firstId + ThreadLocalRandom.current().nextInt(HOT_TASKS);
+            taskService.update(id, TaskRequest.builder().title("Updated task " + System.nanoTime()).build());
+        }
+        return taskService.getDtoList(TaskStatus.PENDING, hotPage(), PAGE_SIZE);
+    }
+
+}
@@ -0,0 +1,128 @@
+package com.example.task_management.benchmark;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.boot.context.metrics.buffering.StartupTimeline;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.metrics.StartupStep;
+import com.example.task_management.TaskManagementApplication;
+
+
+/**
+ * Time from {@code SpringApplication.run} to a ready application, in a fresh JVM per fork, with the
+ * default configuration and with the {@code prod} profile.
+ * <p>
+ * Unlike the other benchmarks the application is started with its own {@code application.properties}
+ * (only the port is random), as SQL logging and the optional components are part of what is measured.
+ * At tear down each fork prints the JVM uptime when the application was ready and the
+ * {@value #TOP_BEANS} slowest beans, by their own instantiation time (nested beans excluded) and by
+ * total time, as recorded by a {@link BufferingApplicationStartup}.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(5)
+public class StartupBenchmark {
+
+    private static final int TOP_BEANS = 15;
+    private static final int BUFFERED_STEPS = 20_000;
+    private static final String BEAN_STEP = "spring.beans.instantiate";
+
+    @Param({"default", "prod"})
+    private String profile;
+
+    private ConfigurableApplicationContext context;
+    private BufferingApplicationStartup applicationStartup;
+    private long uptimeAtReady;
+
+
+    @TearDown(Level.Iteration)
+    public void tearDown() {
+        report();
+        context.close();
+    }
+
+    @Benchmark
+    public ConfigurableApplicationContext timeToReady() {
+        applicationStartup = new BufferingApplicationStartup(BUFFERED_STEPS);
+        SpringApplicationBuilder builder = new SpringApplicationBuilder(TaskManagementApplication.class)
+                .applicationStartup(applicationStartup);
+        if (!"default".equals(profile)) {
+            builder.profiles(profile);
+        }
+        context = builder.run("--server.port=0");
+        uptimeAtReady = ManagementFactory.getRuntimeMXBean().getUptime();
+        return context;
+    }
+
+    private void report() {
+        List<StartupTimeline.TimelineEvent> events = applicationStartup.getBufferedTimeline().getEvents();
+
+        // own time of a step = its duration minus the durations of its direct children
+        Map<Long, Long> ownNanos = new HashMap<>();
+        for (StartupTimeline.TimelineEvent event : events) {
+            ownNanos.merge(event.getStartupStep().getId(), event.getDuration().toNanos(), Long::sum);
+            Long parentId = event.getStartupStep().getParentId();
+            if (parentId != null) {
+                ownNanos.merge(parentId, -event.getDuration().toNanos(), Long::sum);
+            }
+        }
+
+        List<StartupTimeline.TimelineEvent> beans = new ArrayList<>();
+        long beanNanos = 0;
+        for (StartupTimeline.TimelineEvent event : events) {
+            if (BEAN_STEP.equals(event.getStartupStep().getName())) {
+                beans.add(event);
+                beanNanos += ownNanos.get(event.getStartupStep().getId());
+            }
+        }
+        beans.sort((a, b) -> Long.compare(ownNanos.get(b.getStartupStep().getId()),
+                                          ownNanos.get(a.getStartupStep().getId())));
+
+        System.out.printf("%nProfile %s: ready at %d ms of JVM uptime, %d beans instantiated in %d ms (%d steps recorded)%n",
+                          profile, uptimeAtReady, beans.size(), TimeUnit.NANOSECONDS.toMillis(beanNanos), events.size());
+        System.out.printf("%-70s %10s %10s%n", "Bean", "Own ms", "Total ms");
+        for (StartupTimeline.TimelineEvent bean : beans.subList(0, Math.min(TOP_BEANS, beans.size()))) {
+            System.out.printf("%-70s %10.1f %10.1f%n", beanName(bean.getStartupStep()),
+                              millis(Duration.ofNanos(ownNanos.get(bean.getStartupStep().getId()))),
+                              millis(bean.getDuration()));
+        }
+    }
+
+    private static String beanName(StartupStep step) {
+        for (StartupStep.Tag tag : step.getTags()) {
+            if ("beanName".equals(tag.getKey())) {
+                String name = tag.getValue();
+                return name.length() > 70 ? "..." + name.substring(name.length() - 67) : name;
+            }
+        }
+        return step.getName();
+    }
+
+    private static double millis(Duration duration) {
+        return duration.toNanos() / 1_000_000.0;
+    }
+
+}
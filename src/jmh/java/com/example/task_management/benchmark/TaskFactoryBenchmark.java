@@ -0,0 +1,66 @@
+package com.example.task_management.benchmark;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import com.example.task_management.dto.request.TaskRequest;
+import com.example.task_management.dto.response.TaskResponse;
+import com.example.task_management.factory.TaskFactory;
+import com.example.task_management.model.Task;
+import com.example.task_management.model.TaskStatus;
+
+
+/**
+ * Mapping cost of {@link TaskFactory} between DTOs and entities.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 30, time = 1)
+@Fork(5)
+public class TaskFactoryBenchmark {
+
+    private TaskFactory taskFactory;
+    private TaskRequest request;
+    private Task task;
+
+
+    @Setup
+    public void setUp() {
+        taskFactory = new TaskFactory();
+        request = TaskRequest.builder()
+                             .title("Finish homework")
+                             .description("Math exercises page 24")
+                             .status(TaskStatus.IN_PROGRESS)
+                             .build();
+        task = Task.builder()
+                   .id(1L)
+                   .title("Finish homework")
+                   .description("Math exercises page 24")
+                   .status(TaskStatus.IN_PROGRESS)
+                   .createdAt(LocalDateTime.now())
+                   .updatedAt(LocalDateTime.now())
+                   .build();
+    }
+
+    @Benchmark
+    public Task toEntity() {
+        return taskFactory.toEntity(request);
+    }
+
+    @Benchmark
+    public TaskResponse toDto() {
+        return taskFactory.toDto(task);
+    }
+
+}
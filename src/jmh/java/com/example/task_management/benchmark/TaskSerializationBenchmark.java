@@ -0,0 +1,64 @@
+package com.example.task_management.benchmark;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import com.example.task_management.dto.response.TaskResponse;
+import com.example.task_management.model.TaskStatus;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+
+/**
+ * Jackson serialization of task lists, configured like the Spring MVC message converter.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 30, time = 1)
+@Fork(5)
+public class TaskSerializationBenchmark {
+
+    @Param({"20", "1000"})
+    private int size;
+
+    private ObjectWriter writer;
+    private List<TaskResponse> tasks;
+
+
+    @Setup
+    public void setUp() {
+        writer = Jackson2ObjectMapperBuilder.json().build().writer();
+        tasks = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            tasks.add(TaskResponse.builder()
+                                  .id((long) i)
+                                  .title("Task " + i)
+                                  .description("Description of task " + i)
+                                  .status(TaskStatus.values()[i % TaskStatus.values().length])
+                                  .createdAt(LocalDateTime.now())
+                                  .updatedAt(LocalDateTime.now())
+                                  .build());
+        }
+    }
+
+    @Benchmark
+    public byte[] serializeList() throws JsonProcessingException {
+        return writer.writeValueAsBytes(tasks);
+    }
+
+}
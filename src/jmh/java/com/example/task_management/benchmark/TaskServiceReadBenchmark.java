@@ -0,0 +1,139 @@
+package com.example.task_management.benchmark;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import com.example.task_management.config.CacheConfig;
+import com.example.task_management.dto.response.TaskResponse;
+import com.example.task_management.factory.TaskFactory;
+import com.example.task_management.model.TaskStatus;
+import com.example.task_management.repository.TaskRepository;
+import com.example.task_management.service.TaskService;
+
+
+/**
+ * Read paths of {@link TaskService} against the embedded H2 database.
+ * <p>
+ * {@code listEntities} and {@code listProjections} read the same page as managed entities
+ * mapped by {@link TaskFactory} and as constructor-expression DTOs; run with {@code -prof gc}
+ * and compare {@code gc.alloc.rate.norm}, which is reported per listed task.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 15, time = 2)
+@Measurement(iterations = 20, time = 2)
+@Fork(5)
+public class TaskServiceReadBenchmark {
+
+    private static final int PAGE_SIZE = 20;
+    private static final int PROJECTION_PAGE_SIZE = 100;
+
+    @Param("10000")
+    private int tasks;
+
+    private ConfigurableApplicationContext context;
+    private TaskService taskService;
+    private TaskRepository taskRepository;
+    private TaskFactory taskFactory;
+    private TransactionTemplate readOnlyTransaction;
+    private Cache cache;
+    private long firstId;
+    private String deepCursor;
+
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkApplication.start();
+        taskService = context.getBean(TaskService.class);
+        taskRepository = context.getBean(TaskRepository.class);
+        taskFactory = context.getBean(TaskFactory.class);
+        cache = context.getBean(CacheManager.class).getCache(CacheConfig.TASKS_CACHE);
+
+        readOnlyTransaction = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        readOnlyTransaction.setReadOnly(true);
+
+        for (int created = 0; created < tasks; created += 1000) {
+            taskService.createAll(BenchmarkApplication.requests(Math.min(1000, tasks - created)));
+        }
+
+        firstId = taskService.getDtoListAfter(null, "", "id", 1).getTasks().get(0).getId();
+        deepCursor = taskService.getDtoListAfter(null, "", "id", tasks - PAGE_SIZE).getNextCursor();
+
+        // fill the cache, so getByIdCached measures hits only
+        for (long id = firstId; id < firstId + tasks; id++) {
+            taskService.getById(id);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    private long randomId() {
+        return firstId + ThreadLocalRandom.current().nextInt(tasks);
+    }
+
+    @Benchmark
+    public TaskResponse getByIdCached() {
+        return taskService.getById(randomId());
+    }
+
+    @Benchmark
+    public TaskResponse getByIdUncached() {
+        long id = randomId();
+        cache.evict(id);
+        return taskService.getById(id);
+    }
+
+    @Benchmark
+    public List<TaskResponse> getDtoListFirstPage() {
+        return taskService.getDtoList(null, 0, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public List<TaskResponse> getDtoListLastOffsetPage() {
+        return taskService.getDtoList(null, tasks / PAGE_SIZE - 1, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public List<TaskResponse> getDtoListLastCursorPage() {
+        return taskService.getDtoListAfter(null, deepCursor, "id", PAGE_SIZE).getTasks();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(PROJECTION_PAGE_SIZE)
+    public List<TaskResponse> listEntities() {
+        return readOnlyTransaction.execute(tx -> taskFactory.toDtoList(
+                taskRepository.findByStatus(TaskStatus.PENDING, PageRequest.of(0, PROJECTION_PAGE_SIZE)).getContent()));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(PROJECTION_PAGE_SIZE)
+    public List<TaskResponse> listProjections() {
+        return readOnlyTransaction.execute(tx ->
+                taskRepository.findDtoByStatus(TaskStatus.PENDING, PageRequest.of(0, PROJECTION_PAGE_SIZE)).getContent());
+    }
+
+}
@@ -0,0 +1,88 @@
+package com.example.task_management.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.context.ConfigurableApplicationContext;
+import com.example.task_management.dto.request.TaskRequest;
+import com.example.task_management.dto.response.TaskBatchItemResponse;
+import com.example.task_management.dto.response.TaskResponse;
+import com.example.task_management.model.TaskStatus;
+import com.example.task_management.service.TaskService;
+
+
+/**
+ * Write paths of {@link TaskService} against the embedded H2 database.
+ * <p>
+ * Scores of {@code createOneByOne} and {@code createAll} are in rows per second:
+ * one transaction per task versus one batched transaction for {@value #BATCH_SIZE} tasks.
+ * The tasks are deleted after each iteration, so that every iteration writes to a table of the same size.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 15, time = 4)
+@Measurement(iterations = 20, time = 3)
+@Fork(5)
+public class TaskServiceWriteBenchmark {
+
+    private static final int BATCH_SIZE = 1000;
+
+    private ConfigurableApplicationContext context;
+    private TaskService taskService;
+    private List<TaskRequest> requests;
+
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkApplication.start();
+        taskService = context.getBean(TaskService.class);
+        requests = BenchmarkApplication.requests(BATCH_SIZE);
+    }
+
+    @TearDown(Level.Iteration)
+    public void deleteTasks() {
+        for (TaskStatus status : TaskStatus.values()) {
+            taskService.deleteMatching(status, null);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public TaskResponse create() {
+        return taskService.create(requests.get(0));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public void createOneByOne(Blackhole blackhole) {
+        for (TaskRequest request : requests) {
+            blackhole.consume(taskService.create(request));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public List<TaskBatchItemResponse> createAll() {
+        return taskService.createAll(requests);
+    }
+
+}
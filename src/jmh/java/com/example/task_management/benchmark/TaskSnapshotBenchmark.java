@@ -0,0 +1,100 @@
+package com.example.task_management.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import com.example.task_management.service.TaskSnapshotStore;
+
+
+/**
+ * Snapshot and restore of the {@code TASKS} table with {@code rows} tasks.
+ * <p>
+ * Scores are the time of one full snapshot or restore. The snapshot size is printed at tear down.
+ * Rows are generated with a single {@code INSERT ... SELECT}: 40-60 character titles, 80-120 character
+ * descriptions (one in ten null), every status.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class TaskSnapshotBenchmark {
+
+    @Param("1000000")
+    private int rows;
+
+    private ConfigurableApplicationContext context;
+    private TaskSnapshotStore taskSnapshotStore;
+    private JdbcTemplate jdbcTemplate;
+    private Path file;
+
+
+    @Setup
+    public void setUp() throws IOException {
+        context = BenchmarkApplication.start();
+        taskSnapshotStore = context.getBean(TaskSnapshotStore.class);
+        jdbcTemplate = context.getBean(JdbcTemplate.class);
+        file = Files.createTempFile("tasks", ".snapshot");
+
+        jdbcTemplate.update("insert into TASKS (ID, TITLE, DESCRIPTION, STATUS, CREATED_AT, UPDATED_AT) "
+                          + "select X, concat('Benchmark task ', X, ' ', repeat('t', mod(X, 21) + 25)), "
+                          + "case when mod(X, 10) = 0 then null "
+                          + "else concat('Description of benchmark task ', X, ' ', repeat('d', mod(X, 41) + 45)) end, "
+                          + "case mod(X, 3) when 0 then 'PENDING' when 1 then 'IN_PROGRESS' else 'COMPLETED' end, "
+                          + "dateadd('SECOND', X, timestamp '2024-01-01 00:00:00'), "
+                          + "dateadd('MILLISECOND', X * 1500, timestamp '2024-01-01 00:00:00') "
+                          + "from system_range(1, ?)", rows);
+        taskSnapshotStore.write(file);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        long size = Files.size(file);
+        System.out.printf("%nSnapshot of %d tasks: %d bytes (%.1f MB per million tasks)%n",
+                          rows, size, size * 1_000_000.0 / rows / (1024 * 1024));
+        Files.deleteIfExists(file);
+        context.close();
+    }
+
+    @Benchmark
+    public long snapshot() throws IOException {
+        return taskSnapshotStore.write(file);
+    }
+
+
+    /**
+     * Restores into an emptied table.
+     */
+    @State(Scope.Benchmark)
+    public static class EmptyTable {
+
+        @Setup(Level.Invocation)
+        public void empty(TaskSnapshotBenchmark benchmark) {
+            benchmark.jdbcTemplate.update("truncate table TASKS");
+        }
+    }
+
+    @Benchmark
+    public long restore(EmptyTable emptyTable) throws IOException {
+        return taskSnapshotStore.restore(file);
+    }
+
+}
@@ -0,0 +1,46 @@
+package com.example.task_management.loadtest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+
+/**
+ * IDs of the tasks known to exist, picked at random by get, update and delete requests.
+ */
+final class IdPool {
+
+    private final List<Long> ids = new ArrayList<>();
+
+
+    synchronized void add(long id) {
+        ids.add(id);
+    }
+
+    synchronized int size() {
+        return ids.size();
+    }
+
+    /**
+     * @return a random ID, or {@code null} if the pool is empty
+     */
+    synchronized Long pick() {
+        if (ids.isEmpty()) return null;
+        return ids.get(ThreadLocalRandom.current().nextInt(ids.size()));
+    }
+
+    /**
+     * Removes and returns a random ID, so no other request targets a task being deleted.
+     *
+     * @return a random ID, or {@code null} if the pool is empty
+     */
+    synchronized Long take() {
+        if (ids.isEmpty()) return null;
+        int index = ThreadLocalRandom.current().nextInt(ids.size());
+        Long id = ids.get(index);
+        ids.set(index, ids.get(ids.size() - 1));
+        ids.remove(ids.size() - 1);
+        return id;
+    }
+
+}
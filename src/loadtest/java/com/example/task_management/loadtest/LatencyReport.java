@@ -0,0 +1,96 @@
+package com.example.task_management.loadtest;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+
+/**
+ * Latency distribution and error count per {@link Operation}.
+ * <p>
+ * Latencies are recorded in microseconds into HdrHistograms; only requests sent (or, in an
+ * open loop, scheduled) inside the measurement window are kept.
+ * </p>
+ */
+final class LatencyReport {
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(1);
+
+    private final Map<Operation, Histogram> histograms = new EnumMap<>(Operation.class);
+    private final Map<Operation, LongAdder> errors = new EnumMap<>(Operation.class);
+    private volatile long measureStartNanos;
+    private volatile long measureEndNanos;
+
+
+    LatencyReport() {
+        for (Operation operation : Operation.values()) {
+            histograms.put(operation, new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3));
+            errors.put(operation, new LongAdder());
+        }
+    }
+
+    void startMeasuring(long startNanos, long endNanos) {
+        measureStartNanos = startNanos;
+        measureEndNanos = endNanos;
+    }
+
+    void record(Operation operation, long startNanos, long endNanos, int status) {
+        if (startNanos < measureStartNanos || startNanos >= measureEndNanos) return;
+
+        histograms.get(operation).recordValue(
+                Math.min(TimeUnit.NANOSECONDS.toMicros(endNanos - startNanos), HIGHEST_TRACKABLE_MICROS));
+        if (status < 200 || status >= 300) {
+            errors.get(operation).increment();
+        }
+    }
+
+    void write(Path file, LoadTestConfig config) throws IOException {
+        if (file.getParent() != null) Files.createDirectories(file.getParent());
+        try (PrintStream out = new PrintStream(Files.newOutputStream(file), false, "UTF-8")) {
+            out.println("Load test: " + config);
+            out.println();
+            printSummary(out);
+
+            for (Operation operation : Operation.values()) {
+                Histogram histogram = histograms.get(operation);
+                if (histogram.getTotalCount() == 0) continue;
+                out.println();
+                out.println("Latency distribution of " + operation.endpoint() + " (ms)");
+                histogram.outputPercentileDistribution(out, 1000.0);
+            }
+        }
+    }
+
+    void printSummary(PrintStream out) {
+        double seconds = (measureEndNanos - measureStartNanos) / 1e9;
+        out.printf("%-24s %9s %7s %9s %9s %9s %9s %9s %9s%n",
+                   "Endpoint", "Requests", "Errors", "Req/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+
+        for (Operation operation : Operation.values()) {
+            Histogram histogram = histograms.get(operation);
+            if (histogram.getTotalCount() == 0) continue;
+            out.printf("%-24s %9d %7d %9.1f %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                       operation.endpoint(),
+                       histogram.getTotalCount(),
+                       errors.get(operation).sum(),
+                       histogram.getTotalCount() / seconds,
+                       millis(histogram.getValueAtPercentile(50)),
+                       millis(histogram.getValueAtPercentile(90)),
+                       millis(histogram.getValueAtPercentile(99)),
+                       millis(histogram.getValueAtPercentile(99.9)),
+                       millis(histogram.getMaxValue()));
+        }
+    }
+
+    private static double millis(long micros) {
+        return micros / 1000.0;
+    }
+
+}
@@ -0,0 +1,160 @@
+package com.example.task_management.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+
+/**
+ * Sends the requests of each {@link Operation} to the task API with Basic authentication.
+ */
+final class LoadClient {
+
+    private static final Pattern ID = Pattern.compile("\"id\"\\s*:\\s*(\\d+)");
+    private static final String[] STATUSES = {"PENDING", "IN_PROGRESS", "COMPLETED"};
+
+    private final HttpClient httpClient;
+    private final String baseUrl;
+    private final String authorization;
+    private final IdPool ids;
+    private final int pageSize;
+
+
+    LoadClient(LoadTestConfig config, String baseUrl, IdPool ids, Executor executor) {
+        this.httpClient = HttpClient.newBuilder()
+                                    .version(HttpClient.Version.HTTP_1_1)
+                                    .connectTimeout(Duration.ofSeconds(5))
+                                    .executor(executor)
+                                    .build();
+        this.baseUrl = baseUrl + "/api/tasks";
+        this.authorization = "Basic " + Base64.getEncoder().encodeToString(
+                (config.username + ":" + config.password).getBytes(StandardCharsets.UTF_8));
+        this.ids = ids;
+        this.pageSize = config.pageSize;
+    }
+
+    /**
+     * Picks the target task of {@code operation}; operations needing an existing task fall back
+     * to a create when no task is known, so the returned call may be of another operation.
+     */
+    Call prepare(Operation operation) {
+        Long id = null;
+        if (operation == Operation.GET || operation == Operation.UPDATE) {
+            id = ids.pick();
+        } else if (operation == Operation.DELETE) {
+            id = ids.take();
+        }
+        if (id == null && operation != Operation.LIST) {
+            operation = Operation.CREATE;
+        }
+        return new Call(operation, id);
+    }
+
+    /**
+     * Sends the request of a prepared call.
+     *
+     * @return the HTTP status code
+     */
+    CompletableFuture<Integer> send(Call call) {
+        return httpClient.sendAsync(request(call.operation, call.id), HttpResponse.BodyHandlers.ofString())
+                         .thenApply(response -> {
+                             onResponse(call.operation, call.id, response);
+                             return response.statusCode();
+                         });
+    }
+
+    int createAll(int count) throws Exception {
+        StringBuilder body = new StringBuilder("[");
+        for (int i = 0; i < count; i++) {
+            if (i > 0) body.append(',');
+            body.append(taskJson("Preloaded task " + i));
+        }
+        body.append(']');
+
+        HttpResponse<String> response = httpClient.send(
+                builder(baseUrl + "/batch").POST(HttpRequest.BodyPublishers.ofString(body.toString())).build(),
+                HttpResponse.BodyHandlers.ofString());
+
+        Matcher matcher = Pattern.compile("\"task\"\\s*:\\s*\\{\\s*\"id\"\\s*:\\s*(\\d+)").matcher(response.body());
+        int created = 0;
+        while (matcher.find()) {
+            ids.add(Long.parseLong(matcher.group(1)));
+            created++;
+        }
+        return created;
+    }
+
+    private HttpRequest request(Operation operation, Long id) {
+        switch (operation) {
+            case CREATE:
+                return builder(baseUrl)
+                        .POST(HttpRequest.BodyPublishers.ofString(taskJson("Load test task")))
+                        .build();
+            case GET:
+                return builder(baseUrl + "/" + id).GET().build();
+            case LIST:
+                return builder(baseUrl + "?size=" + pageSize + "&page=" + ThreadLocalRandom.current().nextInt(10))
+                        .GET()
+                        .build();
+            case UPDATE:
+                return builder(baseUrl + "/" + id)
+                        .PUT(HttpRequest.BodyPublishers.ofString(taskJson("Updated load test task")))
+                        .build();
+            case DELETE:
+                return builder(baseUrl + "/" + id).DELETE().build();
+            default:
+                throw new IllegalStateException("Unknown operation " + operation);
+        }
+    }
+
+    private void onResponse(Operation operation, Long id, HttpResponse<String> response) {
+        if (operation == Operation.CREATE && response.statusCode() == 201) {
+            Matcher matcher = ID.matcher(response.body());
+            if (matcher.find()) ids.add(Long.parseLong(matcher.group(1)));
+        } else if (operation == Operation.DELETE && response.statusCode() >= 400 && response.statusCode() != 404) {
+            ids.add(id);
+        }
+    }
+
+    private HttpRequest.Builder builder(String url) {
+        return HttpRequest.newBuilder(URI.create(url))
+                          .timeout(Duration.ofSeconds(30))
+                          .header("Authorization", authorization)
+                          .header("Content-Type", "application/json")
+                          .header("Accept", "application/json");
+    }
+
+    private static String taskJson(String title) {
+        String status = STATUSES[ThreadLocalRandom.current().nextInt(STATUSES.length)];
+        return "{\"title\":\"" + title + "\",\"description\":\"Generated by the load test\",\"status\":\"" + status + "\"}";
+    }
+
+
+    /**
+     * A request about to be sent: the operation actually performed and its target task, if any.
+     */
+    static final class Call {
+
+        private final Operation operation;
+        private final Long id;
+
+        private Call(Operation operation, Long id) {
+            this.operation = operation;
+            this.id = id;
+        }
+
+        Operation operation() {
+            return operation;
+        }
+    }
+
+}
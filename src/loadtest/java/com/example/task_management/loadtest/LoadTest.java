@@ -0,0 +1,155 @@
+package com.example.task_management.loadtest;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Phaser;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.LockSupport;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import com.example.task_management.TaskManagementApplication;
+
+
+/**
+ * Self-contained HTTP load generator for the task API.
+ * <p>
+ * Unless {@code --url} is given, the application is started on a random port, preloaded with
+ * tasks and driven with the configured mix of operations, either in a closed loop (each worker
+ * sends its next request when the previous one completes) or in an open loop (requests are
+ * issued at a fixed rate and latency is measured from their intended send time, so a stalled
+ * server is not hidden by coordinated omission). See {@link LoadTestConfig} for the arguments.
+ * </p>
+ */
+public final class LoadTest {
+
+    private LoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.parse(args);
+        ConfigurableApplicationContext context = null;
+        ExecutorService httpExecutor = Executors.newFixedThreadPool(Math.max(4, Runtime.getRuntime().availableProcessors()));
+
+        try {
+            String url = config.url;
+            if (url == null) {
+                context = new SpringApplicationBuilder(TaskManagementApplication.class)
+                        .logStartupInfo(false)
+                        .run("--server.port=0",
+                             "--spring.main.banner-mode=off",
+                             "--spring.jpa.show-sql=false",
+                             "--logging.level.root=WARN",
+                             "--logging.level.org.hibernate.SQL=OFF",
+                             // every request comes from one user: keep the concurrency limits, not the per-client rate
+                             "--task.admission.client.rate=1000000",
+                             "--task.admission.client.burst=1000000");
+                url = "http://localhost:" + ((WebServerApplicationContext) context).getWebServer().getPort();
+            }
+
+            IdPool ids = new IdPool();
+            LoadClient client = new LoadClient(config, url, ids, httpExecutor);
+            for (int loaded = 0; loaded < config.preload; loaded += 1000) {
+                client.createAll(Math.min(1000, config.preload - loaded));
+            }
+            System.out.println("Load test against " + url + " with " + ids.size() + " preloaded tasks: " + config);
+
+            LatencyReport report = new LatencyReport();
+            long start = System.nanoTime();
+            long measureStart = start + config.warmup.toNanos();
+            long end = measureStart + config.duration.toNanos();
+            report.startMeasuring(measureStart, end);
+
+            if (config.mode == LoadTestConfig.Mode.CLOSED) {
+                runClosedLoop(config, client, report, end);
+            } else {
+                runOpenLoop(config, client, report, end);
+            }
+
+            report.printSummary(System.out);
+            Path file = Path.of(config.report);
+            report.write(file, config);
+            System.out.println("Report written to " + file.toAbsolutePath());
+        } finally {
+            httpExecutor.shutdownNow();
+            if (context != null) context.close();
+        }
+    }
+
+    private static void runClosedLoop(LoadTestConfig config, LoadClient client, LatencyReport report, long end)
+            throws InterruptedException {
+
+        List<Thread> workers = new ArrayList<>(config.concurrency);
+        for (int i = 0; i < config.concurrency; i++) {
+            Thread worker = new Thread(() -> {
+                while (System.nanoTime() < end) {
+                    LoadClient.Call call = client.prepare(pick(config.mix));
+                    long sent = System.nanoTime();
+                    int status;
+                    try {
+                        status = client.send(call).join();
+                    } catch (RuntimeException ex) {
+                        status = -1;
+                    }
+                    report.record(call.operation(), sent, System.nanoTime(), status);
+                }
+            }, "load-worker-" + i);
+            worker.start();
+            workers.add(worker);
+        }
+
+        for (Thread worker : workers) {
+            worker.join();
+        }
+    }
+
+    private static void runOpenLoop(LoadTestConfig config, LoadClient client, LatencyReport report, long end)
+            throws InterruptedException {
+
+        // intended send times are computed from the request count, so that intervals of a fraction of a
+        // nanosecond, or not a whole number of nanoseconds, neither stall nor drift the schedule
+        double interval = (double) TimeUnit.SECONDS.toNanos(1) / config.rate;
+        long start = System.nanoTime();
+        long next = start;
+        long issued = 0;
+        Phaser inFlight = new Phaser(1);
+
+        while (next < end) {
+            long delay = next - System.nanoTime();
+            if (delay > 0) LockSupport.parkNanos(delay);
+
+            LoadClient.Call call = client.prepare(pick(config.mix));
+            long intended = next;
+            inFlight.register();
+            client.send(call).whenComplete((status, ex) -> {
+                report.record(call.operation(), intended, System.nanoTime(), ex == null ? status : -1);
+                inFlight.arriveAndDeregister();
+            });
+            next = start + (long) (++issued * interval);
+        }
+
+        // wait for the requests still in flight, their latency counts too
+        try {
+            inFlight.awaitAdvanceInterruptibly(inFlight.arrive(), 60, TimeUnit.SECONDS);
+        } catch (TimeoutException ex) {
+            System.err.println("Some requests did not complete within 60 seconds after the run");
+        }
+    }
+
+    private static Operation pick(Map<Operation, Integer> mix) {
+        int total = mix.values().stream().mapToInt(Integer::intValue).sum();
+        int roll = ThreadLocalRandom.current().nextInt(total);
+        for (Map.Entry<Operation, Integer> entry : mix.entrySet()) {
+            roll -= entry.getValue();
+            if (roll < 0) return entry.getKey();
+        }
+        throw new IllegalStateException("Empty operation mix");
+    }
+
+}
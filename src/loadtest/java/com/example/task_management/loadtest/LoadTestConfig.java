@@ -0,0 +1,106 @@
+package com.example.task_management.loadtest;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+
+
+/**
+ * Load test settings, parsed from {@code --key=value} arguments.
+ * <ul>
+ *   <li>{@code mode}: {@code closed} (fixed number of workers, each waiting for its response) or
+ *       {@code open} (requests issued at a fixed rate, whatever the response times)</li>
+ *   <li>{@code concurrency}: number of workers in closed mode (default 16)</li>
+ *   <li>{@code rate}: requests per second in open mode (default 500)</li>
+ *   <li>{@code warmup}, {@code duration}: e.g. {@code 10s}, {@code 2m} (defaults 10s, 60s)</li>
+ *   <li>{@code mix}: operation weights, e.g. {@code create:1,get:6,list:2,update:1,delete:1}</li>
+ *   <li>{@code preload}: tasks created before the run (default 10000)</li>
+ *   <li>{@code page-size}: page size of list requests (default 20)</li>
+ *   <li>{@code report}: report file (default {@code target/loadtest/report.txt})</li>
+ *   <li>{@code url}: base URL of a running server; when absent the application is started on a random port</li>
+ *   <li>{@code username}, {@code password}: Basic auth credentials (default admin/admin)</li>
+ * </ul>
+ */
+final class LoadTestConfig {
+
+    enum Mode { CLOSED, OPEN }
+
+    Mode mode = Mode.CLOSED;
+    int concurrency = 16;
+    int rate = 500;
+    Duration warmup = Duration.ofSeconds(10);
+    Duration duration = Duration.ofSeconds(60);
+    Map<Operation, Integer> mix = new EnumMap<>(Map.of(
+            Operation.CREATE, 1, Operation.GET, 6, Operation.LIST, 2, Operation.UPDATE, 1, Operation.DELETE, 1));
+    int preload = 10_000;
+    int pageSize = 20;
+    String report = "target/loadtest/report.txt";
+    String url;
+    String username = "admin";
+    String password = "admin";
+
+
+    static LoadTestConfig parse(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Invalid argument '" + arg + "', expected --key=value");
+            }
+            int sep = arg.indexOf('=');
+            values.put(arg.substring(2, sep), arg.substring(sep + 1));
+        }
+
+        LoadTestConfig config = new LoadTestConfig();
+        values.forEach((key, value) -> {
+            switch (key) {
+                case "mode": config.mode = Mode.valueOf(value.toUpperCase()); break;
+                case "concurrency": config.concurrency = Integer.parseInt(value); break;
+                case "rate": config.rate = Integer.parseInt(value); break;
+                case "warmup": config.warmup = parseDuration(value); break;
+                case "duration": config.duration = parseDuration(value); break;
+                case "mix": config.mix = parseMix(value); break;
+                case "preload": config.preload = Integer.parseInt(value); break;
+                case "page-size": config.pageSize = Integer.parseInt(value); break;
+                case "report": config.report = value; break;
+                case "url": config.url = value; break;
+                case "username": config.username = value; break;
+                case "password": config.password = value; break;
+                default: throw new IllegalArgumentException("Unknown argument '--" + key + "'");
+            }
+        });
+
+        if (config.rate <= 0) {
+            throw new IllegalArgumentException("Invalid rate " + config.rate + ", expected a positive number of requests per second");
+        }
+        return config;
+    }
+
+    private static Duration parseDuration(String value) {
+        long amount = Long.parseLong(value.substring(0, value.length() - 1));
+        switch (value.charAt(value.length() - 1)) {
+            case 's': return Duration.ofSeconds(amount);
+            case 'm': return Duration.ofMinutes(amount);
+            case 'h': return Duration.ofHours(amount);
+            default: throw new IllegalArgumentException("Invalid duration '" + value + "', expected e.g. 30s, 5m");
+        }
+    }
+
+    private static Map<Operation, Integer> parseMix(String value) {
+        Map<Operation, Integer> mix = new EnumMap<>(Operation.class);
+        for (String entry : value.split(",")) {
+            String[] parts = entry.split(":");
+            mix.put(Operation.valueOf(parts[0].trim().toUpperCase()), Integer.parseInt(parts[1].trim()));
+        }
+        return mix;
+    }
+
+    @Override
+    public String toString() {
+        return "mode=" + mode
+             + (mode == Mode.CLOSED ? ", concurrency=" + concurrency : ", rate=" + rate + "/s")
+             + ", warmup=" + warmup + ", duration=" + duration
+             + ", mix=" + mix + ", preload=" + preload + ", page-size=" + pageSize;
+    }
+
+}
@@ -0,0 +1,23 @@
+package com.example.task_management.loadtest;
+
+
+/**
+ * Operations of the load mix, labelled with the endpoint they exercise.
+ */
+enum Operation {
+    CREATE("POST /api/tasks"),
+    GET("GET /api/tasks/{id}"),
+    LIST("GET /api/tasks"),
+    UPDATE("PUT /api/tasks/{id}"),
+    DELETE("DELETE /api/tasks/{id}");
+
+    private final String endpoint;
+
+    Operation(String endpoint) {
+        this.endpoint = endpoint;
+    }
+
+    String endpoint() {
+        return endpoint;
+    }
+}
@@ -2,13 +2,21 @@ package com.example.task_management;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 
 @SpringBootApplication
+@EnableScheduling
 public class TaskManagementApplication {
 
 	public static void main(String[] args) {
-		SpringApplication.run(TaskManagementApplication.class, args);
+		ConfigurableApplicationContext context = SpringApplication.run(TaskManagementApplication.class, args);
+
+		// training run for the class data sharing archive (cds profile): load everything startup loads, then exit
+		if (context.getEnvironment().getProperty("task.startup.exit-on-ready", Boolean.class, false)) {
+			System.exit(SpringApplication.exit(context));
+		}
 	}
 
 }
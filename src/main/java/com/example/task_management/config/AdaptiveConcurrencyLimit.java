@@ -0,0 +1,116 @@
+package com.example.task_management.config;
+
+import java.time.Duration;
+
+
+/**
+ * Concurrency limit adjusted by AIMD (additive increase, multiplicative decrease) on observed latency.
+ * <p>
+ * A request is admitted while fewer than {@link #getLimit()} requests are in flight. A request
+ * completing within the latency target grows the limit by {@code 1 / limit}, i.e. by about one per
+ * round of requests, provided the limit was actually in use: at least half of it was in flight when
+ * the request was admitted. A request slower than the target, or answered with an overload status,
+ * multiplies the limit by {@code backoffRatio}, at most once per round: requests admitted before the
+ * last decrease do not decrease it again. The limit stays within {@code [minLimit, maxLimit]}.
+ * </p>
+ */
+public class AdaptiveConcurrencyLimit {
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final long latencyTargetNanos;
+    private final double backoffRatio;
+
+    private double limit;
+    private int inFlight;
+    private long lastDecreaseNanos = System.nanoTime();
+
+
+    public AdaptiveConcurrencyLimit(int initialLimit, int minLimit, int maxLimit,
+                                    Duration latencyTarget, double backoffRatio) {
+        if (minLimit < 1 || minLimit > maxLimit || initialLimit < minLimit || initialLimit > maxLimit) {
+            throw new IllegalArgumentException("Concurrency limits must satisfy 1 <= min <= initial <= max");
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.latencyTargetNanos = latencyTarget.toNanos();
+        this.backoffRatio = backoffRatio;
+        this.limit = initialLimit;
+    }
+
+    /**
+     * Admits a request if the limit allows it.
+     *
+     * @return the permit to release once the request completes, or {@code null} if the limit is reached
+     */
+    public synchronized Permit tryAcquire() {
+        if (inFlight >= (int) limit) return null;
+        inFlight++;
+        return new Permit(System.nanoTime(), inFlight);
+    }
+
+    public synchronized int getLimit() {
+        return (int) limit;
+    }
+
+    public synchronized int getInFlight() {
+        return inFlight;
+    }
+
+    private synchronized void release(Permit permit, boolean overloaded, boolean sampled) {
+        inFlight--;
+        if (!sampled) return;
+        long now = System.nanoTime();
+
+        if (overloaded || now - permit.startNanos > latencyTargetNanos) {
+            if (permit.startNanos - lastDecreaseNanos > 0) {
+                limit = Math.max(minLimit, limit * backoffRatio);
+                lastDecreaseNanos = now;
+            }
+        } else if (permit.inFlightAtStart * 2 >= (int) limit) {
+            limit = Math.min(maxLimit, limit + 1 / limit);
+        }
+    }
+
+
+    /**
+     * A slot of the limit held by one request.
+     */
+    public final class Permit {
+
+        private final long startNanos;
+        private final int inFlightAtStart;
+        private boolean released;
+
+        private Permit(long startNanos, int inFlightAtStart) {
+            this.startNanos = startNanos;
+            this.inFlightAtStart = inFlightAtStart;
+        }
+
+        /**
+         * Releases the slot and feeds the latency of the request to the limit. Only the first call counts.
+         *
+         * @param overloaded whether the request failed because the server is overloaded
+         */
+        public void release(boolean overloaded) {
+            release(overloaded, true);
+        }
+
+        /**
+         * Releases the slot without feeding the limit, for requests whose latency says nothing about
+         * the load, such as streaming exports. Only the first call to either release method counts.
+         */
+        public void releaseUnsampled() {
+            release(false, false);
+        }
+
+        private void release(boolean overloaded, boolean sampled) {
+            synchronized (this) {
+                if (released) return;
+                released = true;
+            }
+            AdaptiveConcurrencyLimit.this.release(this, overloaded, sampled);
+        }
+    }
+
+}
@@ -0,0 +1,278 @@
+package com.example.task_management.config;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.PostConstruct;
+import javax.servlet.AsyncEvent;
+import javax.servlet.AsyncListener;
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+
+/**
+ * Admission control in front of the task endpoints ({@code /api/tasks/**} and {@code /api/async/tasks/**},
+ * except the long-lived change feed).
+ * <p>
+ * Runs after Spring Security and checks, before any work is done for the request:
+ * <ol>
+ *   <li>a token bucket per client, keyed by the authenticated principal: {@code task.admission.client.rate}
+ *       requests per second with bursts of {@code task.admission.client.burst}. An empty bucket answers
+ *       {@code 429 Too Many Requests} with {@code Retry-After} set to the time until the next token;</li>
+ *   <li>an {@link AdaptiveConcurrencyLimit} for reads ({@code GET}/{@code HEAD}) and another for writes,
+ *       configured under {@code task.admission.read.*} and {@code task.admission.write.*}. A request over the
+ *       limit answers {@code 503 Service Unavailable} with {@code Retry-After: 1}.</li>
+ * </ol>
+ * Rejected requests are not queued, so a burst is shed in microseconds instead of piling up in the
+ * Tomcat and Hikari queues. An asynchronous request keeps its slot until its response is complete.
+ * Requests that run for as long as their data takes (exports, imports, bulk deletes and transitions) hold a
+ * slot too, but their latency is not fed to the limit: it would read as overload and shrink the limit of
+ * the interactive requests.
+ * Setting {@code task.admission.enabled=false} lets every request through.
+ * </p>
+ */
+@Component
+public class AdmissionControlFilter extends OncePerRequestFilter {
+
+    public enum Kind { READ, WRITE }
+
+    private static final String TASKS_PATH = "/api/tasks";
+    private static final String ASYNC_TASKS_PATH = "/api/async/tasks";
+    private static final String CHANGES_PATH = TASKS_PATH + "/changes";
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${task.admission.enabled:true}")
+    private boolean enabled;
+
+    @Value("${task.admission.read.initial-limit:50}")
+    private int readInitialLimit;
+
+    @Value("${task.admission.read.min-limit:5}")
+    private int readMinLimit;
+
+    @Value("${task.admission.read.max-limit:500}")
+    private int readMaxLimit;
+
+    @Value("${task.admission.read.latency-target:100ms}")
+    private Duration readLatencyTarget;
+
+    @Value("${task.admission.write.initial-limit:50}")
+    private int writeInitialLimit;
+
+    @Value("${task.admission.write.min-limit:5}")
+    private int writeMinLimit;
+
+    @Value("${task.admission.write.max-limit:200}")
+    private int writeMaxLimit;
+
+    @Value("${task.admission.write.latency-target:250ms}")
+    private Duration writeLatencyTarget;
+
+    @Value("${task.admission.backoff-ratio:0.9}")
+    private double backoffRatio;
+
+    @Value("${task.admission.client.rate:200}")
+    private double clientRate;
+
+    @Value("${task.admission.client.burst:400}")
+    private long clientBurst;
+
+    @Value("${task.admission.client.maximum-size:10000}")
+    private long maxClients;
+
+    private final Map<Kind, AdaptiveConcurrencyLimit> limits = new EnumMap<>(Kind.class);
+    private final Map<Kind, Counter> limitRejections = new EnumMap<>(Kind.class);
+    private Cache<String, TokenBucket> buckets;
+    private Counter rateRejections;
+
+
+    public AdmissionControlFilter(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @PostConstruct
+    public void init() {
+        limits.put(Kind.READ, new AdaptiveConcurrencyLimit(readInitialLimit, readMinLimit, readMaxLimit,
+                                                           readLatencyTarget, backoffRatio));
+        limits.put(Kind.WRITE, new AdaptiveConcurrencyLimit(writeInitialLimit, writeMinLimit, writeMaxLimit,
+                                                            writeLatencyTarget, backoffRatio));
+        buckets = Caffeine.newBuilder()
+                          .maximumSize(maxClients)
+                          .expireAfterAccess(Duration.ofMinutes(10))
+                          .build();
+
+        for (Kind kind : Kind.values()) {
+            String tag = kind.name().toLowerCase(Locale.ROOT);
+            AdaptiveConcurrencyLimit limit = limits.get(kind);
+            Gauge.builder("task.admission.limit", limit, AdaptiveConcurrencyLimit::getLimit)
+                 .description("Current adaptive concurrency limit")
+                 .tag("kind", tag)
+                 .register(meterRegistry);
+            Gauge.builder("task.admission.in-flight", limit, AdaptiveConcurrencyLimit::getInFlight)
+                 .description("Admitted requests in flight")
+                 .tag("kind", tag)
+                 .register(meterRegistry);
+            limitRejections.put(kind, rejectedCounter(tag, "concurrency"));
+        }
+        rateRejections = rejectedCounter("any", "rate");
+    }
+
+    private Counter rejectedCounter(String kind, String reason) {
+        return Counter.builder("task.admission.rejected")
+                      .description("Requests shed by admission control")
+                      .tag("kind", kind)
+                      .tag("reason", reason)
+                      .register(meterRegistry);
+    }
+
+    /**
+     * Returns the concurrency limit applied to the given kind of request.
+     */
+    public AdaptiveConcurrencyLimit getLimit(Kind kind) {
+        return limits.get(kind);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        if (!enabled) return true;
+        String path = path(request);
+        return !(path.startsWith(TASKS_PATH) || path.startsWith(ASYNC_TASKS_PATH))
+               || path.startsWith(CHANGES_PATH);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+
+        long waitNanos = buckets.get(clientKey(request), key -> new TokenBucket(clientBurst, clientRate)).tryConsume();
+        if (waitNanos > 0) {
+            rateRejections.increment();
+            reject(response, HttpStatus.TOO_MANY_REQUESTS, "Too many requests, retry later",
+                   TimeUnit.NANOSECONDS.toSeconds(waitNanos + TimeUnit.SECONDS.toNanos(1) - 1));
+            return;
+        }
+
+        Kind kind = isRead(request) ? Kind.READ : Kind.WRITE;
+        AdaptiveConcurrencyLimit.Permit permit = limits.get(kind).tryAcquire();
+        if (permit == null) {
+            limitRejections.get(kind).increment();
+            reject(response, HttpStatus.SERVICE_UNAVAILABLE, "Server busy, retry later", 1);
+            return;
+        }
+
+        boolean sampled = !isLongRunning(request);
+        boolean async = false;
+        try {
+            chain.doFilter(request, response);
+            if (request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(new ReleasingListener(permit, response, sampled));
+                async = true;
+            }
+        } finally {
+            if (!async) {
+                release(permit, sampled, isOverloaded(response));
+            }
+        }
+    }
+
+    private static String path(HttpServletRequest request) {
+        return request.getRequestURI().substring(request.getContextPath().length());
+    }
+
+    // exports, imports and bulk operations take as long as their data does, whatever the load
+    private static boolean isLongRunning(HttpServletRequest request) {
+        String path = path(request);
+        String method = request.getMethod();
+        return path.equals(TASKS_PATH + "/export") || path.equals(ASYNC_TASKS_PATH + "/export")
+               || path.equals(TASKS_PATH + "/import")
+               || path.equals(TASKS_PATH + "/transition") && HttpMethod.POST.matches(method)
+               || path.equals(TASKS_PATH) && HttpMethod.DELETE.matches(method);
+    }
+
+    private static String clientKey(HttpServletRequest request) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication != null ? "user:" + authentication.getName() : "ip:" + request.getRemoteAddr();
+    }
+
+    private static boolean isRead(HttpServletRequest request) {
+        return HttpMethod.GET.matches(request.getMethod()) || HttpMethod.HEAD.matches(request.getMethod());
+    }
+
+    private static boolean isOverloaded(HttpServletResponse response) {
+        return response.getStatus() == HttpStatus.SERVICE_UNAVAILABLE.value();
+    }
+
+    private static void release(AdaptiveConcurrencyLimit.Permit permit, boolean sampled, boolean overloaded) {
+        if (sampled) {
+            permit.release(overloaded);
+        } else {
+            permit.releaseUnsampled();
+        }
+    }
+
+    private static void reject(HttpServletResponse response, HttpStatus status, String message, long retryAfterSeconds)
+            throws IOException {
+        response.setStatus(status.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds));
+        response.setContentType(MediaType.TEXT_PLAIN_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        response.getWriter().write(message);
+    }
+
+
+    private static final class ReleasingListener implements AsyncListener {
+
+        private final AdaptiveConcurrencyLimit.Permit permit;
+        private final HttpServletResponse response;
+        private final boolean sampled;
+
+        private ReleasingListener(AdaptiveConcurrencyLimit.Permit permit, HttpServletResponse response,
+                                  boolean sampled) {
+            this.permit = permit;
+            this.response = response;
+            this.sampled = sampled;
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            release(permit, sampled, isOverloaded(response));
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            release(permit, sampled, true);
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            release(permit, sampled, false);
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+        }
+    }
+
+}
@@ -0,0 +1,91 @@
+package com.example.task_management.config;
+
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.concurrent.DelegatingSecurityContextRunnable;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+
+/**
+ * Executor for the non-blocking read API.
+ * <p>
+ * Asynchronous handlers release the servlet thread and run their database work on the
+ * {@value #TASK_READ_EXECUTOR} pool instead. The pool is bounded by {@code task.async.pool-size}
+ * threads (sized like the connection pool, so that it never waits on it) and by a queue of
+ * {@code task.async.queue-capacity} requests; beyond that submissions are rejected and the
+ * request fails fast with 503. Those requests time out after {@code task.async.timeout}.
+ * Tasks run with the security context of the submitting request, so that reads on the pool
+ * follow the caller's read-your-writes routing (see {@link DataSourceConfig}).
+ * </p>
+ * <p>
+ * Exports run for as long as the client takes to read them, so they are written by their own
+ * {@value #TASK_EXPORT_EXECUTOR} pool of {@code task.async.export.pool-size} threads, without a
+ * queue, and with their own timeout: they neither hold the threads of point reads nor get cut
+ * after the short timeout of those.
+ * </p>
+ * <p>
+ * Server-sent task change events are written by the small {@value #TASK_CHANGES_EXECUTOR} pool,
+ * so idle subscribers hold no thread at all.
+ * </p>
+ */
+@Configuration
+public class AsyncConfig implements WebMvcConfigurer {
+
+    public static final String TASK_READ_EXECUTOR = "taskReadExecutor";
+    public static final String TASK_CHANGES_EXECUTOR = "taskChangesExecutor";
+    public static final String TASK_EXPORT_EXECUTOR = "taskExportExecutor";
+
+    @Value("${task.async.pool-size:10}")
+    private int poolSize;
+
+    @Value("${task.async.queue-capacity:1000}")
+    private int queueCapacity;
+
+    @Value("${task.async.timeout:30s}")
+    private Duration timeout;
+
+
+    @Bean(name = TASK_READ_EXECUTOR)
+    public ThreadPoolTaskExecutor taskReadExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("task-read-");
+        executor.setTaskDecorator(DelegatingSecurityContextRunnable::new);
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(10);
+        return executor;
+    }
+
+    @Bean(name = TASK_EXPORT_EXECUTOR)
+    public ThreadPoolTaskExecutor taskExportExecutor(@Value("${task.async.export.pool-size:2}") int threads) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(0);
+        executor.setThreadNamePrefix("task-export-");
+        executor.setTaskDecorator(DelegatingSecurityContextRunnable::new);
+        return executor;
+    }
+
+    @Bean(name = TASK_CHANGES_EXECUTOR)
+    public ThreadPoolTaskExecutor taskChangesExecutor(@Value("${task.changes.dispatch-threads:2}") int threads) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setThreadNamePrefix("task-changes-");
+        return executor;
+    }
+
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.setDefaultTimeout(timeout.toMillis());
+        configurer.setTaskExecutor(taskReadExecutor());
+    }
+
+}
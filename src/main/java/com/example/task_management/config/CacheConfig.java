@@ -0,0 +1,44 @@
+package com.example.task_management.config;
+
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+
+/**
+ * In-process cache configuration.
+ * <p>
+ * The {@value #TASKS_CACHE} cache holds {@code TaskResponse} DTOs by task ID, bounded by
+ * {@code task.cache.maximum-size} entries and {@code task.cache.ttl} since the last write.
+ * The manager is transaction aware, so evictions issued inside a write transaction
+ * are applied only after it commits.
+ * </p>
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    public static final String TASKS_CACHE = "tasks";
+
+
+    @Bean
+    public CacheManager cacheManager(
+            @Value("${task.cache.maximum-size:10000}") long maximumSize,
+            @Value("${task.cache.ttl:10m}") Duration ttl) {
+
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager(TASKS_CACHE);
+        cacheManager.setAllowNullValues(false);
+        cacheManager.setCaffeine(Caffeine.newBuilder()
+                                         .maximumSize(maximumSize)
+                                         .expireAfterWrite(ttl)
+                                         .recordStats());
+        return new TransactionAwareCacheManagerProxy(cacheManager);
+    }
+
+}
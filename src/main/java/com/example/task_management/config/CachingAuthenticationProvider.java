@@ -0,0 +1,115 @@
+package com.example.task_management.config;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Duration;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.springframework.security.authentication.AuthenticationProvider;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.AuthenticationException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+
+/**
+ * {@link AuthenticationProvider} remembering recently verified username/password pairs.
+ * <p>
+ * Password encoders such as BCrypt are deliberately slow, and HTTP Basic verifies the password
+ * on every request. After a successful authentication by the delegate, an HMAC of the credentials
+ * (keyed with a random per-process secret, so that no password or plain hash is kept in memory) is
+ * cached by username together with the authenticated principal. A later request carrying the same
+ * credentials is authenticated by comparing digests, without calling the delegate.
+ * </p>
+ * <p>
+ * Entries expire {@code ttl} after they are written: a changed password, a disabled account or
+ * modified authorities are seen by the delegate at the latest once the entry has expired.
+ * Failed attempts are never cached.
+ * </p>
+ */
+public class CachingAuthenticationProvider implements AuthenticationProvider {
+
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+
+    private final AuthenticationProvider delegate;
+    private final Cache<String, VerifiedCredentials> cache;
+    private final SecretKeySpec key;
+
+
+    public CachingAuthenticationProvider(AuthenticationProvider delegate, long maximumSize, Duration ttl) {
+        this.delegate = delegate;
+        this.cache = Caffeine.newBuilder()
+                             .maximumSize(maximumSize)
+                             .expireAfterWrite(ttl)
+                             .build();
+        byte[] secret = new byte[32];
+        new SecureRandom().nextBytes(secret);
+        this.key = new SecretKeySpec(secret, HMAC_ALGORITHM);
+    }
+
+    @Override
+    public Authentication authenticate(Authentication authentication) throws AuthenticationException {
+        Object credentials = authentication.getCredentials();
+        if (credentials == null) {
+            return delegate.authenticate(authentication);
+        }
+
+        String username = authentication.getName();
+        byte[] digest = digest(username, credentials.toString());
+
+        VerifiedCredentials verified = cache.getIfPresent(username);
+        if (verified != null && MessageDigest.isEqual(verified.digest, digest)) {
+            UsernamePasswordAuthenticationToken result = new UsernamePasswordAuthenticationToken(
+                    verified.authentication.getPrincipal(), null, verified.authentication.getAuthorities());
+            result.setDetails(authentication.getDetails());
+            return result;
+        }
+
+        Authentication result = delegate.authenticate(authentication);
+        if (result != null && result.isAuthenticated()) {
+            cache.put(username, new VerifiedCredentials(digest, result));
+        }
+        return result;
+    }
+
+    @Override
+    public boolean supports(Class<?> authentication) {
+        return delegate.supports(authentication);
+    }
+
+    /**
+     * Forgets every verified credential, e.g. after a password change.
+     */
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    private byte[] digest(String username, String password) {
+        try {
+            Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+            mac.init(key);
+            mac.update(username.getBytes(StandardCharsets.UTF_8));
+            mac.update((byte) 0);
+            return mac.doFinal(password.getBytes(StandardCharsets.UTF_8));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(HMAC_ALGORITHM + " not available", e);
+        }
+    }
+
+
+    private static final class VerifiedCredentials {
+
+        private final byte[] digest;
+        private final Authentication authentication;
+
+        private VerifiedCredentials(byte[] digest, Authentication authentication) {
+            this.digest = digest;
+            this.authentication = authentication;
+        }
+    }
+
+}
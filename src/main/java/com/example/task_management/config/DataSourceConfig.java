@@ -0,0 +1,133 @@
+package com.example.task_management.config;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.transaction.TransactionManagerCustomizers;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.http.HttpMethod;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import com.zaxxer.hikari.HikariDataSource;
+
+
+/**
+ * Read/write splitting, active when {@code task.datasource.replicas} lists at least one JDBC URL.
+ * <p>
+ * The primary pool is configured by {@code spring.datasource.*} as usual. Each replica gets a read-only
+ * Hikari pool of {@code task.datasource.replica-pool-size} connections with the primary's credentials.
+ * The application data source is a {@link LazyConnectionDataSourceProxy} over a
+ * {@link ReplicaRoutingDataSource}, which sends read-only transactions to the replicas
+ * ({@code task.datasource.replica-selection}: {@code ROUND_ROBIN} or {@code LEAST_LOADED}).
+ * </p>
+ * <p>
+ * Read-your-writes: a write request (any method but {@code GET}/{@code HEAD}) marks its user when it starts
+ * and when it completes, and that user's reads use the primary for {@code task.datasource.read-your-writes}
+ * afterwards, which should exceed the replication lag. {@code 0} disables it.
+ * </p>
+ * <p>
+ * Caches are only filled from the primary: {@code TaskService#getById} reads there, and transactions that
+ * may use a replica do not put into the Hibernate caches ({@link ReplicaAwareTransactionManager}).
+ * </p>
+ */
+@Configuration
+@ConditionalOnExpression("!'${task.datasource.replicas:}'.trim().isEmpty()")
+public class DataSourceConfig implements WebMvcConfigurer {
+
+    @Value("${task.datasource.replicas}")
+    private List<String> replicaUrls;
+
+    @Value("${task.datasource.replica-pool-size:10}")
+    private int replicaPoolSize;
+
+    @Value("${task.datasource.replica-selection:ROUND_ROBIN}")
+    private ReplicaRoutingDataSource.Selection selection;
+
+    @Value("${task.datasource.read-your-writes:5s}")
+    private Duration readYourWritesWindow;
+
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName(ReplicaRoutingDataSource.PRIMARY);
+        return dataSource;
+    }
+
+    @Bean
+    public ReadYourWritesTracker readYourWritesTracker() {
+        return new ReadYourWritesTracker(readYourWritesWindow, 10_000);
+    }
+
+    @Bean
+    public ReplicaRoutingDataSource routingDataSource(HikariDataSource primaryDataSource, DataSourceProperties properties) {
+        List<HikariDataSource> replicas = new ArrayList<>(replicaUrls.size());
+        for (String url : replicaUrls) {
+            // started on first use, after the metrics tracker has been set by ReplicaRoutingDataSource#bindTo
+            HikariDataSource replica = new HikariDataSource();
+            replica.setPoolName("replica-" + replicas.size());
+            replica.setJdbcUrl(url.trim());
+            replica.setUsername(properties.determineUsername());
+            replica.setPassword(properties.determinePassword());
+            replica.setMaximumPoolSize(replicaPoolSize);
+            replica.setReadOnly(true);
+            replicas.add(replica);
+        }
+        return new ReplicaRoutingDataSource(primaryDataSource, replicas, selection, readYourWritesTracker());
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource routingDataSource) {
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+
+    @Bean
+    public JpaTransactionManager transactionManager(ObjectProvider<TransactionManagerCustomizers> customizers) {
+        JpaTransactionManager transactionManager = new ReplicaAwareTransactionManager();
+        customizers.ifAvailable(c -> c.customize(transactionManager));
+        return transactionManager;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        ReadYourWritesTracker tracker = readYourWritesTracker();
+        registry.addInterceptor(new AsyncHandlerInterceptor() {
+            @Override
+            public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+                // marked before the write too, so that a response flushed before afterCompletion cannot race it
+                markWriter(request);
+                return true;
+            }
+
+            @Override
+            public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                        Exception ex) {
+                markWriter(request);
+            }
+
+            private void markWriter(HttpServletRequest request) {
+                if (HttpMethod.GET.matches(request.getMethod()) || HttpMethod.HEAD.matches(request.getMethod())) return;
+                if (request.getUserPrincipal() != null) {
+                    tracker.wrote(request.getUserPrincipal().getName());
+                }
+            }
+        });
+    }
+
+}
@@ -0,0 +1,98 @@
+package com.example.task_management.config;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.OptionalLong;
+import javax.cache.CacheManager;
+import javax.persistence.SharedCacheMode;
+
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import com.example.task_management.model.Task;
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+
+
+/**
+ * Hibernate second-level and query cache, off unless {@code task.hibernate-cache.enabled=true}.
+ * <p>
+ * The regions live in a Caffeine-backed JCache manager created here, owned and closed by the session factory:
+ * <ul>
+ *   <li>{@value Task#CACHE_REGION}: {@link Task} entities by ID ({@code read-write}), bounded by
+ *       {@code task.hibernate-cache.entity.maximum-size} and {@code task.hibernate-cache.entity.ttl};</li>
+ *   <li>the query results region, holding the results of the repository queries marked cacheable,
+ *       bounded by {@code task.hibernate-cache.query.maximum-size} and {@code task.hibernate-cache.query.ttl};</li>
+ *   <li>the update timestamps region, which records the last write to each table. It is never evicted,
+ *       as a cached query result is only valid while it is newer than the writes to its tables.</li>
+ * </ul>
+ * Entity writes and JPQL/Criteria bulk statements keep both caches consistent on their own; writes issued
+ * through plain JDBC must evict the regions themselves (see {@code TaskSnapshotStore}). Hit and miss counts
+ * are published with the other Hibernate statistics ({@code hibernate.second.level.cache.*},
+ * {@code hibernate.query.cache.*}).
+ * </p>
+ */
+@Configuration
+public class HibernateCacheConfig {
+
+    @Value("${task.hibernate-cache.enabled:false}")
+    private boolean enabled;
+
+    @Value("${task.hibernate-cache.entity.maximum-size:10000}")
+    private long entityMaximumSize;
+
+    @Value("${task.hibernate-cache.entity.ttl:10m}")
+    private Duration entityTtl;
+
+    @Value("${task.hibernate-cache.query.maximum-size:1000}")
+    private long queryMaximumSize;
+
+    @Value("${task.hibernate-cache.query.ttl:1m}")
+    private Duration queryTtl;
+
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer() {
+        return properties -> {
+            // set explicitly either way: Hibernate would otherwise pick up the JCache region factory on its own
+            properties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, enabled);
+            properties.put(AvailableSettings.USE_QUERY_CACHE, enabled);
+            if (!enabled) return;
+
+            properties.put(AvailableSettings.CACHE_REGION_FACTORY, ConfigSettings.SIMPLE_FACTORY_NAME);
+            properties.put(ConfigSettings.CACHE_MANAGER, createCacheManager());
+            properties.put(AvailableSettings.JPA_SHARED_CACHE_MODE, SharedCacheMode.ENABLE_SELECTIVE);
+        };
+    }
+
+    private CacheManager createCacheManager() {
+        // a provider of its own, so that every application context gets a new manager
+        CacheManager cacheManager = new CaffeineCachingProvider().getCacheManager(
+                URI.create("task-management-hibernate"), HibernateCacheConfig.class.getClassLoader());
+
+        cacheManager.createCache(Task.CACHE_REGION, regionConfiguration(entityMaximumSize, entityTtl));
+        cacheManager.createCache(RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME,
+                                 regionConfiguration(queryMaximumSize, queryTtl));
+        cacheManager.createCache(RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME,
+                                 regionConfiguration(-1, null));
+        return cacheManager;
+    }
+
+    private static CaffeineConfiguration<Object, Object> regionConfiguration(long maximumSize, Duration ttl) {
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        // Hibernate caches immutable, disassembled state: no need to copy it in and out
+        configuration.setStoreByValue(false);
+        if (maximumSize >= 0) {
+            configuration.setMaximumSize(OptionalLong.of(maximumSize));
+        }
+        if (ttl != null) {
+            configuration.setExpireAfterWrite(OptionalLong.of(ttl.toNanos()));
+        }
+        return configuration;
+    }
+
+}
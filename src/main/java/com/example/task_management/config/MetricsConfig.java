@@ -0,0 +1,98 @@
+package com.example.task_management.config;
+
+import javax.servlet.DispatcherType;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+
+
+/**
+ * Runtime metrics configuration.
+ * <p>
+ * Endpoint latencies ({@code http.server.requests}), Hibernate statistics and Hikari pool metrics
+ * are bound by Spring Boot Actuator. This class adds:
+ * <ul>
+ *   <li>{@link TimedAspect}, so that {@code @Timed} service methods publish {@value #SERVICE_TIMER} timers;</li>
+ *   <li>a {@value #REQUEST_QUERIES} summary with the number of SQL statements issued by each request,
+ *       tagged by method and URI pattern; only statements issued on the request thread are counted, so
+ *       asynchronous reads and group-committed writes are not recorded.</li>
+ * </ul>
+ */
+@Configuration
+public class MetricsConfig implements WebMvcConfigurer {
+
+    public static final String SERVICE_TIMER = "task.service";
+    public static final String REQUEST_QUERIES = "http.server.requests.queries";
+
+    private final StatementCounter statementCounter = new StatementCounter();
+    private final MeterRegistry meterRegistry;
+
+
+    public MetricsConfig(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Bean
+    public TimedAspect timedAspect() {
+        return new TimedAspect(meterRegistry);
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer statementCounterCustomizer() {
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, statementCounter);
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new AsyncHandlerInterceptor() {
+
+            @Override
+            public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+                statementCounter.reset();
+                return true;
+            }
+
+            @Override
+            public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response,
+                                                       Object handler) {
+                // handlers returning an already completed future ran their queries on this thread
+                if (statementCounter.count() > 0) {
+                    record(request);
+                }
+            }
+
+            @Override
+            public void afterCompletion(HttpServletRequest request, HttpServletResponse response,
+                                        Object handler, Exception ex) {
+                if (request.getDispatcherType() == DispatcherType.ASYNC) {
+                    // the queries of asynchronous handlers run on another thread
+                    return;
+                }
+                record(request);
+            }
+        });
+    }
+
+    private void record(HttpServletRequest request) {
+        Object uri = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        DistributionSummary.builder(REQUEST_QUERIES)
+                           .description("SQL statements prepared per request")
+                           .tag("method", request.getMethod())
+                           .tag("uri", uri != null ? uri.toString() : "UNKNOWN")
+                           .register(meterRegistry)
+                           .record(statementCounter.count());
+    }
+
+}
@@ -0,0 +1,34 @@
+package com.example.task_management.config;
+
+import java.time.Duration;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+
+/**
+ * Remembers which users wrote recently, so that their reads go to the primary until replicas have
+ * caught up with their writes. A zero window disables it.
+ */
+public class ReadYourWritesTracker {
+
+    private final Cache<String, Boolean> recentWriters;
+
+
+    public ReadYourWritesTracker(Duration window, long maximumSize) {
+        this.recentWriters = window.isZero() ? null : Caffeine.newBuilder()
+                                                              .maximumSize(maximumSize)
+                                                              .expireAfterWrite(window)
+                                                              .build();
+    }
+
+    public void wrote(String user) {
+        if (recentWriters != null) {
+            recentWriters.put(user, Boolean.TRUE);
+        }
+    }
+
+    public boolean mustReadPrimary(String user) {
+        return recentWriters != null && recentWriters.getIfPresent(user) != null;
+    }
+
+}
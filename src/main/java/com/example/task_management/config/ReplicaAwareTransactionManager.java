@@ -0,0 +1,34 @@
+package com.example.task_management.config;
+
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.springframework.orm.jpa.EntityManagerHolder;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+
+/**
+ * JPA transaction manager for read/write splitting: a transaction that may read from a replica uses the
+ * second-level and query caches in {@link CacheMode#GET} mode, reading them but never putting what it loaded.
+ * <p>
+ * A replica may lag behind the primary, and a stale entity or query result put in a shared cache would
+ * outlive the lag: a cached query result stays valid until the next write to its tables, which may already
+ * have happened. The caches are therefore filled by read-write transactions and by reads made inside
+ * {@link ReplicaRoutingDataSource#onPrimary}. A read-only transaction is left in that mode even when
+ * read-your-writes finally sends it to the primary, as its connection is only fetched at the first statement.
+ * </p>
+ */
+public class ReplicaAwareTransactionManager extends JpaTransactionManager {
+
+    @Override
+    protected void doBegin(Object transaction, TransactionDefinition definition) {
+        super.doBegin(transaction, definition);
+        if (!ReplicaRoutingDataSource.mayUseReplica(definition.isReadOnly())) return;
+
+        EntityManagerHolder holder =
+                (EntityManagerHolder) TransactionSynchronizationManager.getResource(obtainEntityManagerFactory());
+        holder.getEntityManager().unwrap(Session.class).setCacheMode(CacheMode.GET);
+    }
+
+}
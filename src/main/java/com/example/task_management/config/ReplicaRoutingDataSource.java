@@ -0,0 +1,157 @@
+package com.example.task_management.config;
+
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+
+/**
+ * Routes connections of read-only transactions to replica pools and everything else to the primary.
+ * <p>
+ * The route is chosen when a physical connection is requested, so this data source must be wrapped in a
+ * {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}: the transaction manager then
+ * begins the transaction on a proxy, and the connection is fetched at the first statement, once the
+ * transaction is known to be read-only. A read-only transaction goes to the primary as well when
+ * {@link ReadYourWritesTracker} reports a recent write by the current user, or inside {@link #onPrimary}.
+ * Transactions that may read from a replica do not fill the caches (see {@link ReplicaAwareTransactionManager}).
+ * </p>
+ * <p>
+ * Replicas are picked round-robin, or by fewest active connections ({@link Selection#LEAST_LOADED}).
+ * Once bound to the meter registry, every route taken is counted in {@code task.datasource.routed}, tagged
+ * by target, and the replica pools publish the usual {@code hikaricp.*} metrics.
+ * </p>
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource implements MeterBinder, Closeable {
+
+    public enum Selection { ROUND_ROBIN, LEAST_LOADED }
+
+    static final String PRIMARY = "primary";
+
+    private static final ThreadLocal<Boolean> PRIMARY_ONLY = new ThreadLocal<>();
+
+    private final List<HikariDataSource> replicas;
+    private final List<String> replicaKeys = new ArrayList<>();
+    private final Selection selection;
+    private final ReadYourWritesTracker readYourWrites;
+    private final Map<String, Counter> routed = new ConcurrentHashMap<>();
+    private final AtomicInteger next = new AtomicInteger();
+
+
+    public ReplicaRoutingDataSource(HikariDataSource primary, List<HikariDataSource> replicas, Selection selection,
+                                    ReadYourWritesTracker readYourWrites) {
+        this.replicas = replicas;
+        this.selection = selection;
+        this.readYourWrites = readYourWrites;
+
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primary);
+        for (int i = 0; i < replicas.size(); i++) {
+            String key = "replica-" + i;
+            replicaKeys.add(key);
+            targets.put(key, replicas.get(i));
+        }
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    /**
+     * Runs {@code action} with every connection it requests taken from the primary, for reads that must
+     * not lag behind writes (reconciliation, index rebuilds).
+     */
+    public static <T> T onPrimary(Supplier<T> action) {
+        if (PRIMARY_ONLY.get() != null) return action.get();
+        PRIMARY_ONLY.set(Boolean.TRUE);
+        try {
+            return action.get();
+        } finally {
+            PRIMARY_ONLY.remove();
+        }
+    }
+
+    /**
+     * Tells whether a transaction may have its connection taken from a replica: read-only, and not
+     * inside {@link #onPrimary}. Read-your-writes may still send it to the primary.
+     */
+    public static boolean mayUseReplica(boolean readOnly) {
+        return readOnly && PRIMARY_ONLY.get() == null;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        List<String> keys = new ArrayList<>(replicaKeys);
+        keys.add(PRIMARY);
+        for (String key : keys) {
+            routed.put(key, Counter.builder("task.datasource.routed")
+                                   .description("Connections requested per data source")
+                                   .tag("target", key)
+                                   .register(registry));
+        }
+        for (HikariDataSource replica : replicas) {
+            if (replica.getMetricsTrackerFactory() == null && replica.getHikariPoolMXBean() == null) {
+                replica.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(registry));
+            }
+        }
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        String key = route();
+        Counter counter = routed.get(key);
+        if (counter != null) {
+            counter.increment();
+        }
+        return key;
+    }
+
+    private String route() {
+        if (!mayUseReplica(TransactionSynchronizationManager.isCurrentTransactionReadOnly())) {
+            return PRIMARY;
+        }
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && readYourWrites.mustReadPrimary(authentication.getName())) {
+            return PRIMARY;
+        }
+
+        int start = Math.floorMod(next.getAndIncrement(), replicas.size());
+        if (selection == Selection.ROUND_ROBIN) {
+            return replicaKeys.get(start);
+        }
+
+        // least active connections, ties broken round-robin
+        int best = start;
+        int bestActive = Integer.MAX_VALUE;
+        for (int i = 0; i < replicas.size(); i++) {
+            int candidate = (start + i) % replicas.size();
+            HikariPoolMXBean pool = replicas.get(candidate).getHikariPoolMXBean();
+            int active = pool != null ? pool.getActiveConnections() : 0;
+            if (active < bestActive) {
+                best = candidate;
+                bestActive = active;
+            }
+        }
+        return replicaKeys.get(best);
+    }
+
+    @Override
+    public void close() {
+        replicas.forEach(HikariDataSource::close);
+    }
+
+}
@@ -1,9 +1,17 @@
 package com.example.task_management.config;
 
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.security.authentication.AuthenticationProvider;
+import org.springframework.security.authentication.ProviderManager;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
+import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.web.SecurityFilterChain;
 
 import io.swagger.v3.oas.models.Components;
@@ -12,13 +20,33 @@ import io.swagger.v3.oas.models.security.SecurityRequirement;
 import io.swagger.v3.oas.models.security.SecurityScheme;
 
 
+/**
+ * Security configuration: HTTP Basic authentication on every endpoint except API docs,
+ * H2 console and health.
+ * <p>
+ * Unless {@code task.security.auth-cache.enabled} is {@code false}, verified credentials are
+ * remembered by a {@link CachingAuthenticationProvider} for {@code task.security.auth-cache.ttl},
+ * so that the password encoder runs once per user and TTL instead of once per request.
+ * </p>
+ */
 @Configuration
 @EnableWebSecurity
 public class SecurityConfig {
 
+	@Value("${task.security.auth-cache.enabled:true}")
+	private boolean authCacheEnabled;
+
+	@Value("${task.security.auth-cache.maximum-size:1000}")
+	private long authCacheMaximumSize;
+
+	@Value("${task.security.auth-cache.ttl:5m}")
+	private Duration authCacheTtl;
+
+
 	@Bean
-    public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain filterChain(HttpSecurity http, UserDetailsService userDetailsService) throws Exception {
         http
+            .authenticationManager(new ProviderManager(authenticationProvider(userDetailsService)))
             .csrf().disable()
             .authorizeRequests()
                 .antMatchers(
@@ -28,7 +56,8 @@ public class SecurityConfig {
                     "/v3/api-docs/**",
                     "/v3/api-docs.yaml",
                     "/v3/api-docs.json",
-                    "/h2-console/**"
+                    "/h2-console/**",
+                    "/actuator/health"
                 ).permitAll()
                 .anyRequest().authenticated()
             .and()
@@ -39,7 +68,22 @@ public class SecurityConfig {
         return http.build();
     }
 
+	private AuthenticationProvider authenticationProvider(UserDetailsService userDetailsService) throws Exception {
+		DaoAuthenticationProvider daoProvider = new DaoAuthenticationProvider();
+		daoProvider.setUserDetailsService(userDetailsService);
+		if (userDetailsService instanceof UserDetailsPasswordService) {
+			daoProvider.setUserDetailsPasswordService((UserDetailsPasswordService) userDetailsService);
+		}
+		daoProvider.afterPropertiesSet();
+
+		if (!authCacheEnabled) {
+			return daoProvider;
+		}
+		return new CachingAuthenticationProvider(daoProvider, authCacheMaximumSize, authCacheTtl);
+	}
+
 	@Bean
+	@ConditionalOnProperty(name = "springdoc.api-docs.enabled", matchIfMissing = true)
 	public OpenAPI openAPI() {
 	    return new OpenAPI()
 	        .components(new Components().addSecuritySchemes("basicScheme",
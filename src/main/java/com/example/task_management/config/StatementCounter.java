@@ -0,0 +1,41 @@
+package com.example.task_management.config;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+
+/**
+ * Hibernate {@link StatementInspector} counting the SQL statements prepared by the current thread.
+ * <p>
+ * Registered on the session factory by {@link MetricsConfig}, which reads and resets the count
+ * around each web request to publish the number of queries per endpoint. Statements are returned
+ * unchanged.
+ * </p>
+ */
+public class StatementCounter implements StatementInspector {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final ThreadLocal<int[]> COUNT = ThreadLocal.withInitial(() -> new int[1]);
+
+
+    @Override
+    public String inspect(String sql) {
+        COUNT.get()[0]++;
+        return sql;
+    }
+
+    /**
+     * Clears the count of the current thread.
+     */
+    public void reset() {
+        COUNT.get()[0] = 0;
+    }
+
+    /**
+     * Returns the statements prepared by the current thread since the last {@link #reset()}.
+     */
+    public int count() {
+        return COUNT.get()[0];
+    }
+
+}
@@ -0,0 +1,43 @@
+package com.example.task_management.config;
+
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * Token bucket rate limiter: holds at most {@code capacity} tokens, refilled continuously at
+ * {@code ratePerSecond}. Each admitted request takes one token.
+ */
+final class TokenBucket {
+
+    private final double capacity;
+    private final double tokensPerNano;
+
+    private double tokens;
+    private long lastRefillNanos;
+
+
+    TokenBucket(long capacity, double ratePerSecond) {
+        this.capacity = capacity;
+        this.tokensPerNano = ratePerSecond / TimeUnit.SECONDS.toNanos(1);
+        this.tokens = capacity;
+        this.lastRefillNanos = System.nanoTime();
+    }
+
+    /**
+     * Takes a token if one is available.
+     *
+     * @return {@code 0} if a token was taken, otherwise the number of nanoseconds until one is available
+     */
+    synchronized long tryConsume() {
+        long now = System.nanoTime();
+        tokens = Math.min(capacity, tokens + (now - lastRefillNanos) * tokensPerNano);
+        lastRefillNanos = now;
+
+        if (tokens >= 1) {
+            tokens--;
+            return 0;
+        }
+        return (long) Math.ceil((1 - tokens) / tokensPerNano);
+    }
+
+}
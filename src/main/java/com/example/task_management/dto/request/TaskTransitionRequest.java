@@ -0,0 +1,32 @@
+package com.example.task_management.dto.request;
+
+import java.time.LocalDateTime;
+import javax.validation.constraints.NotNull;
+import com.example.task_management.model.TaskStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TaskTransitionRequest {
+
+    @NotNull(message = "From status is required")
+    @Schema(description = "Current status of the tasks to transition", example = "IN_PROGRESS",
+    		allowableValues = {"PENDING", "IN_PROGRESS", "COMPLETED"})
+    private TaskStatus from;
+
+    @NotNull(message = "To status is required")
+    @Schema(description = "New status of the tasks", example = "COMPLETED",
+    		allowableValues = {"PENDING", "IN_PROGRESS", "COMPLETED"})
+    private TaskStatus to;
+
+    @Schema(description = "Optional: only tasks last updated before this time are transitioned",
+            example = "2024-01-01T00:00:00")
+    private LocalDateTime updatedBefore;
+}
@@ -0,0 +1,19 @@
+package com.example.task_management.dto.response;
+
+import java.util.Map;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TaskBatchItemResponse {
+    private int index;
+    private int status;
+    private TaskResponse task;
+    private Map<String, String> errors;
+}
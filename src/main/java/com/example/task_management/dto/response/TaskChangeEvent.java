@@ -0,0 +1,27 @@
+package com.example.task_management.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TaskChangeEvent {
+
+    public enum Type {
+        CREATED,
+        UPDATED,
+        DELETED,
+        /** Events were missed: the client should reload the tasks it tracks. */
+        RESET
+    }
+
+    private long id;
+    private Type type;
+    private Long taskId;
+    private TaskResponse task;
+}
@@ -0,0 +1,17 @@
+package com.example.task_management.dto.response;
+
+import java.util.Map;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TaskImportErrorResponse {
+    private long line;
+    private Map<String, String> errors;
+}
@@ -0,0 +1,22 @@
+package com.example.task_management.dto.response;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TaskImportResponse {
+    private long rows;
+    private long imported;
+    private long failed;
+    private List<TaskImportErrorResponse> errors;
+    private boolean errorsTruncated;
+    private long elapsedMillis;
+    private long rowsPerSecond;
+}
@@ -0,0 +1,18 @@
+package com.example.task_management.dto.response;
+
+import java.util.Map;
+import com.example.task_management.model.TaskStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TaskStatsResponse {
+    private long total;
+    private Map<TaskStatus, Long> byStatus;
+}
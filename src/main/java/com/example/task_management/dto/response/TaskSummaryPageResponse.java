@@ -0,0 +1,17 @@
+package com.example.task_management.dto.response;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TaskSummaryPageResponse {
+    private List<TaskSummaryResponse> tasks;
+    private String nextCursor;
+}
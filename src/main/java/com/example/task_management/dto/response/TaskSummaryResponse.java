@@ -0,0 +1,23 @@
+package com.example.task_management.dto.response;
+
+import java.time.LocalDateTime;
+import com.example.task_management.model.TaskStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+
+/**
+ * List view of a task, without its description.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TaskSummaryResponse {
+    private Long id;
+    private String title;
+    private TaskStatus status;
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,21 @@
+package com.example.task_management.dto.response;
+
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TaskUpdateResponse {
+    private Long id;
+    private Long taskId;
+    private String field;
+    private String oldValue;
+    private String newValue;
+    private LocalDateTime changedAt;
+}
@@ -1,7 +1,10 @@
 package com.example.task_management.model;
 
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import javax.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -9,15 +12,25 @@ import lombok.NoArgsConstructor;
 
 
 @Entity
-@Table(name = "TASKS")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = Task.CACHE_REGION)
+@Table(name = "TASKS", indexes = {
+    @Index(name = "IDX_TASKS_STATUS_ID", columnList = "STATUS, ID"),
+    @Index(name = "IDX_TASKS_UPDATED_AT_ID", columnList = "UPDATED_AT, ID"),
+    @Index(name = "IDX_TASKS_STATUS_UPDATED_AT_ID", columnList = "STATUS, UPDATED_AT, ID")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
 public class Task {
 
+    // second-level cache region, used when task.hibernate-cache.enabled=true
+    public static final String CACHE_REGION = "task";
+
 	@Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "task_seq")
+    @SequenceGenerator(name = "task_seq", sequenceName = "TASKS_SEQ", allocationSize = 50)
     private Long id;
 
     @Column(name = "TITLE", nullable = false)
@@ -38,15 +51,15 @@ public class Task {
     private LocalDateTime updatedAt;
 
 
+    // truncated to the microseconds kept by the TIMESTAMP columns, so DTOs built from the entity match the stored row
     @PrePersist
     public void prePersist() {
-        createdAt = LocalDateTime.now();
-        updatedAt = LocalDateTime.now();
+        createdAt = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        updatedAt = createdAt;
     }
 
     @PreUpdate
     public void preUpdate() {
-        updatedAt = LocalDateTime.now();
-        //TODO create TaskUpdate entity
+        updatedAt = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
     }
 }
@@ -0,0 +1,46 @@
+package com.example.task_management.model;
+
+import java.time.LocalDateTime;
+import javax.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+
+/**
+ * One changed field of a task: its value before and after an update.
+ * <p>
+ * Entries are kept after the task is deleted, so {@code TASK_ID} is not a foreign key.
+ * </p>
+ */
+@Entity
+@Table(name = "TASK_UPDATES", indexes = {
+    @Index(name = "IDX_TASK_UPDATES_TASK_ID_ID", columnList = "TASK_ID, ID")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TaskUpdate {
+
+	@Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "task_update_seq")
+    @SequenceGenerator(name = "task_update_seq", sequenceName = "TASK_UPDATES_SEQ", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "TASK_ID", nullable = false)
+    private Long taskId;
+
+    @Column(name = "FIELD", nullable = false)
+    private String field;
+
+    @Column(name = "OLD_VALUE", columnDefinition = "TEXT")
+    private String oldValue;
+
+    @Column(name = "NEW_VALUE", columnDefinition = "TEXT")
+    private String newValue;
+
+    @Column(name = "CHANGED_AT", nullable = false)
+    private LocalDateTime changedAt;
+}
@@ -0,0 +1,22 @@
+package com.example.task_management.repository;
+
+import com.example.task_management.model.TaskStatus;
+import lombok.Value;
+
+
+/**
+ * Previous values of the columns a patch may replace, read by
+ * {@link TaskRepositoryCustom#findPatchedFieldsById} for the history diff and the status counters.
+ * <p>
+ * The description is only read when the patch replaces it: {@link #isDescriptionRead()} tells a
+ * {@code null} description apart from one that was not read.
+ * </p>
+ */
+@Value
+public class TaskPatchedFields {
+    Long id;
+    String title;
+    TaskStatus status;
+    boolean descriptionRead;
+    String description;
+}
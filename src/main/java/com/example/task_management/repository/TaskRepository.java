@@ -1,15 +1,129 @@
 package com.example.task_management.repository;
 
+import static org.hibernate.jpa.QueryHints.HINT_CACHEABLE;
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.QueryHints.HINT_READONLY;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
-import org.springframework.data.domain.Page;
+import java.util.Optional;
+import java.util.stream.Stream;
+import javax.persistence.LockModeType;
+import javax.persistence.QueryHint;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import com.example.task_management.dto.response.TaskResponse;
 import com.example.task_management.model.Task;
 import com.example.task_management.model.TaskStatus;
 
 
-public interface TaskRepository extends JpaRepository<Task, Long> {
+public interface TaskRepository extends JpaRepository<Task, Long>, TaskRepositoryCustom {
+
+    // constructor expression: rows are mapped straight to TaskResponse, no managed entity is created
+    String SELECT_TASK_RESPONSE = "select new com.example.task_management.dto.response.TaskResponse("
+                                + "t.id, t.title, t.description, t.status, t.createdAt, t.updatedAt) "
+                                + "from Task t ";
+
     List<Task> findAllByStatus(TaskStatus status);
-    Page<Task> findByStatus(TaskStatus status, Pageable pageable);
+
+    // the row stays locked until the end of the transaction, so the previous values match the update
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select t from Task t where t.id = :id")
+    Optional<Task> findByIdForUpdate(@Param("id") Long id);
+
+    @Query("select t.status from Task t where t.id = :id")
+    Optional<TaskStatus> findStatusById(@Param("id") Long id);
+
+    @Query("select t.updatedAt from Task t where t.id = :id")
+    Optional<LocalDateTime> findUpdatedAtById(@Param("id") Long id);
+
+    @Query("select t.status, count(t) from Task t group by t.status")
+    List<Object[]> countGroupByStatus();
+
+    // set-based writes: a single statement, no entity is loaded
+    @Modifying
+    @Query("delete from Task t where t.id in :ids")
+    int deleteByIds(@Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Query("update Task t set t.status = :to, t.updatedAt = :updatedAt where t.id in :ids and t.status = :from")
+    int transitionByIds(@Param("ids") Collection<Long> ids,
+                        @Param("from") TaskStatus from,
+                        @Param("to") TaskStatus to,
+                        @Param("updatedAt") LocalDateTime updatedAt);
+
+    // status pages are cacheable: with task.hibernate-cache.enabled they are served from the query cache until
+    // the next write to TASKS. Cursor continuations are not, as nearly every cursor is requested only once
+    @QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
+    Slice<Task> findByStatus(TaskStatus status, Pageable pageable);
+
+    // forward-only cursor over every task; must be consumed inside a transaction and closed
+    @QueryHints({
+        @QueryHint(name = HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HINT_READONLY, value = "true")
+    })
+    @Query("select t from Task t order by t.id asc")
+    Stream<Task> streamAllOrderById();
+
+    @Query(SELECT_TASK_RESPONSE + "where t.id = :id")
+    Optional<TaskResponse> findDtoById(@Param("id") Long id);
+
+    @Query(SELECT_TASK_RESPONSE + "where t.id in :ids")
+    List<TaskResponse> findDtoByIdIn(@Param("ids") Collection<Long> ids);
+
+    // offset pagination without the COUNT(*) query of Page
+    @Query(SELECT_TASK_RESPONSE)
+    Slice<TaskResponse> findDtoBy(Pageable pageable);
+
+    @QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
+    @Query(SELECT_TASK_RESPONSE + "where t.status = :status")
+    Slice<TaskResponse> findDtoByStatus(@Param("status") TaskStatus status, Pageable pageable);
+
+    // keyset pagination ordered by id, backed by the primary key and IDX_TASKS_STATUS_ID
+    @Query(SELECT_TASK_RESPONSE + "order by t.id asc")
+    List<TaskResponse> findDtoOrderById(Pageable pageable);
+
+    @Query(SELECT_TASK_RESPONSE + "where t.id > :id order by t.id asc")
+    List<TaskResponse> findDtoAfterOrderById(@Param("id") Long id, Pageable pageable);
+
+    @QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
+    @Query(SELECT_TASK_RESPONSE + "where t.status = :status order by t.id asc")
+    List<TaskResponse> findDtoByStatusOrderById(@Param("status") TaskStatus status, Pageable pageable);
+
+    @Query(SELECT_TASK_RESPONSE + "where t.status = :status and t.id > :id order by t.id asc")
+    List<TaskResponse> findDtoByStatusAfterOrderById(@Param("status") TaskStatus status,
+                                                     @Param("id") Long id,
+                                                     Pageable pageable);
+
+    // keyset pagination ordered by (updatedAt, id), backed by IDX_TASKS_UPDATED_AT_ID and IDX_TASKS_STATUS_UPDATED_AT_ID
+    @Query(SELECT_TASK_RESPONSE + "order by t.updatedAt asc, t.id asc")
+    List<TaskResponse> findDtoOrderByUpdatedAt(Pageable pageable);
+
+    @Query(SELECT_TASK_RESPONSE
+         + "where t.updatedAt > :updatedAt or (t.updatedAt = :updatedAt and t.id > :id) "
+         + "order by t.updatedAt asc, t.id asc")
+    List<TaskResponse> findDtoAfterOrderByUpdatedAt(@Param("updatedAt") LocalDateTime updatedAt,
+                                                    @Param("id") Long id,
+                                                    Pageable pageable);
+
+    @QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
+    @Query(SELECT_TASK_RESPONSE + "where t.status = :status order by t.updatedAt asc, t.id asc")
+    List<TaskResponse> findDtoByStatusOrderByUpdatedAt(@Param("status") TaskStatus status, Pageable pageable);
+
+    @Query(SELECT_TASK_RESPONSE
+         + "where t.status = :status "
+         + "and (t.updatedAt > :updatedAt or (t.updatedAt = :updatedAt and t.id > :id)) "
+         + "order by t.updatedAt asc, t.id asc")
+    List<TaskResponse> findDtoByStatusAfterOrderByUpdatedAt(@Param("status") TaskStatus status,
+                                                            @Param("updatedAt") LocalDateTime updatedAt,
+                                                            @Param("id") Long id,
+                                                            Pageable pageable);
 
 }
@@ -0,0 +1,85 @@
+package com.example.task_management.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import com.example.task_management.dto.response.TaskSummaryResponse;
+import com.example.task_management.model.TaskStatus;
+
+
+public interface TaskRepositoryCustom {
+
+    /**
+     * Updates only the given columns of a task with a single {@code UPDATE ... WHERE ID = ?},
+     * without loading the entity.
+     *
+     * @param id          the ID of the task
+     * @param title       the new title, or {@code null} to keep it
+     * @param description the new description, or {@code null} to keep it
+     * @param status      the new status, or {@code null} to keep it
+     * @param updatedAt   the new modification timestamp
+     * @return the number of updated rows, {@code 0} if the task does not exist
+     */
+    int patchById(Long id, String title, String description, TaskStatus status, LocalDateTime updatedAt);
+
+    /**
+     * Locks the task ({@code SELECT ... FOR UPDATE}) and reads the values a patch may replace: the title
+     * and status, and the description only when asked for, so that patching the other fields does not read
+     * the {@code DESCRIPTION} column. The lock is held until the end of the transaction.
+     *
+     * @param id              the ID of the task
+     * @param withDescription whether to read the description
+     * @return the values read, or empty if the task does not exist
+     */
+    Optional<TaskPatchedFields> findPatchedFieldsById(Long id, boolean withDescription);
+
+    /**
+     * Returns up to {@code limit} task IDs greater than {@code afterId}, in ascending order,
+     * matching the optional filters.
+     *
+     * @param status        the status to match, or {@code null} for any status
+     * @param updatedBefore the exclusive upper bound of {@code updatedAt}, or {@code null} for no bound
+     * @param afterId       the exclusive lower bound of the IDs
+     * @param limit         the maximum number of IDs to return
+     * @return the matching IDs
+     */
+    List<Long> findIdChunk(TaskStatus status, LocalDateTime updatedBefore, long afterId, int limit);
+
+    /**
+     * Locks ({@code SELECT ... FOR UPDATE}) the tasks among {@code ids} that still match the optional
+     * filters, and returns their current status.
+     * <p>
+     * Bulk operations select their chunks without locks; the IDs returned here are the ones the chunk
+     * may write, so that rows changed or deleted in the meantime are left alone and not counted.
+     * </p>
+     *
+     * @param ids           the candidate IDs
+     * @param status        the status to match, or {@code null} for any status
+     * @param updatedBefore the exclusive upper bound of {@code updatedAt}, or {@code null} for no bound
+     * @return the status of each locked task, by ID in ascending order
+     */
+    Map<Long, TaskStatus> lockStatusesById(Collection<Long> ids, TaskStatus status, LocalDateTime updatedBefore);
+
+    /**
+     * Returns a page of task summaries, selecting only the summary columns so that the
+     * {@code DESCRIPTION} column is neither read nor transferred.
+     * <p>
+     * With {@code orderByUpdatedAt}, tasks are ordered by {@code (updatedAt, id)}, otherwise by {@code id}.
+     * A keyset page starts right after {@code afterId} (and {@code afterUpdatedAt} when ordered by
+     * {@code updatedAt}); an offset page passes {@code null} keys and skips {@code offset} rows.
+     * </p>
+     *
+     * @param status           the status to match, or {@code null} for any status
+     * @param orderByUpdatedAt whether to order by {@code (updatedAt, id)} instead of {@code id}
+     * @param afterUpdatedAt   the {@code updatedAt} of the last task of the previous page, or {@code null}
+     * @param afterId          the ID of the last task of the previous page, or {@code null}
+     * @param offset           the number of rows to skip
+     * @param limit            the maximum number of summaries to return
+     * @return the matching summaries
+     */
+    List<TaskSummaryResponse> findSummaries(TaskStatus status, boolean orderByUpdatedAt,
+                                            LocalDateTime afterUpdatedAt, Long afterId, int offset, int limit);
+
+}
@@ -0,0 +1,151 @@
+package com.example.task_management.repository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import javax.persistence.EntityManager;
+import javax.persistence.LockModeType;
+import javax.persistence.PersistenceContext;
+import javax.persistence.Tuple;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.CriteriaUpdate;
+import javax.persistence.criteria.Path;
+import javax.persistence.criteria.Predicate;
+import javax.persistence.criteria.Root;
+import javax.persistence.criteria.Selection;
+import com.example.task_management.dto.response.TaskSummaryResponse;
+import com.example.task_management.model.Task;
+import com.example.task_management.model.TaskStatus;
+
+
+public class TaskRepositoryCustomImpl implements TaskRepositoryCustom {
+
+	@PersistenceContext
+    private EntityManager entityManager;
+
+
+    @Override
+    public int patchById(Long id, String title, String description, TaskStatus status, LocalDateTime updatedAt) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaUpdate<Task> update = cb.createCriteriaUpdate(Task.class);
+        Root<Task> task = update.from(Task.class);
+
+        if (title != null) update.set(task.<String>get("title"), title);
+        if (description != null) update.set(task.<String>get("description"), description);
+        if (status != null) update.set(task.<TaskStatus>get("status"), status);
+        update.set(task.<LocalDateTime>get("updatedAt"), updatedAt);
+        update.where(cb.equal(task.get("id"), id));
+
+        return entityManager.createQuery(update).executeUpdate();
+    }
+
+    @Override
+    public Optional<TaskPatchedFields> findPatchedFieldsById(Long id, boolean withDescription) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Task> task = query.from(Task.class);
+        Path<String> title = task.get("title");
+        Path<TaskStatus> status = task.get("status");
+        Path<String> description = task.get("description");
+
+        List<Selection<?>> columns = new ArrayList<>(List.of(title, status));
+        if (withDescription) columns.add(description);
+        query.multiselect(columns)
+             .where(cb.equal(task.get("id"), id));
+
+        return entityManager.createQuery(query)
+                            .setLockMode(LockModeType.PESSIMISTIC_WRITE)
+                            .getResultStream()
+                            .findFirst()
+                            .map(row -> new TaskPatchedFields(id, row.get(title), row.get(status), withDescription,
+                                                              withDescription ? row.get(description) : null));
+    }
+
+    @Override
+    public List<Long> findIdChunk(TaskStatus status, LocalDateTime updatedBefore, long afterId, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<Task> task = query.from(Task.class);
+
+        List<Predicate> predicates = new ArrayList<>();
+        predicates.add(cb.greaterThan(task.<Long>get("id"), afterId));
+        if (status != null) predicates.add(cb.equal(task.get("status"), status));
+        if (updatedBefore != null) predicates.add(cb.lessThan(task.<LocalDateTime>get("updatedAt"), updatedBefore));
+
+        query.select(task.<Long>get("id"))
+             .where(predicates.toArray(new Predicate[0]))
+             .orderBy(cb.asc(task.get("id")));
+
+        return entityManager.createQuery(query)
+                            .setMaxResults(limit)
+                            .getResultList();
+    }
+
+    @Override
+    public Map<Long, TaskStatus> lockStatusesById(Collection<Long> ids, TaskStatus status, LocalDateTime updatedBefore) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Task> task = query.from(Task.class);
+        Path<Long> id = task.get("id");
+        Path<TaskStatus> taskStatus = task.get("status");
+
+        List<Predicate> predicates = new ArrayList<>();
+        predicates.add(id.in(ids));
+        if (status != null) predicates.add(cb.equal(taskStatus, status));
+        if (updatedBefore != null) predicates.add(cb.lessThan(task.<LocalDateTime>get("updatedAt"), updatedBefore));
+
+        // locked in ID order, as concurrent bulk operations walk the IDs in the same order
+        query.multiselect(id, taskStatus)
+             .where(predicates.toArray(new Predicate[0]))
+             .orderBy(cb.asc(id));
+
+        Map<Long, TaskStatus> locked = new LinkedHashMap<>();
+        for (Tuple row : entityManager.createQuery(query)
+                                      .setLockMode(LockModeType.PESSIMISTIC_WRITE)
+                                      .getResultList()) {
+            locked.put(row.get(id), row.get(taskStatus));
+        }
+        return locked;
+    }
+
+    @Override
+    public List<TaskSummaryResponse> findSummaries(TaskStatus status, boolean orderByUpdatedAt,
+                                                   LocalDateTime afterUpdatedAt, Long afterId, int offset, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<TaskSummaryResponse> query = cb.createQuery(TaskSummaryResponse.class);
+        Root<Task> task = query.from(Task.class);
+        Path<Long> id = task.get("id");
+        Path<LocalDateTime> updatedAt = task.get("updatedAt");
+
+        List<Predicate> predicates = new ArrayList<>();
+        if (status != null) predicates.add(cb.equal(task.get("status"), status));
+        if (afterId != null) {
+            if (orderByUpdatedAt) {
+                predicates.add(cb.or(cb.greaterThan(updatedAt, afterUpdatedAt),
+                                     cb.and(cb.equal(updatedAt, afterUpdatedAt), cb.greaterThan(id, afterId))));
+            } else {
+                predicates.add(cb.greaterThan(id, afterId));
+            }
+        }
+
+        // constructor projection: the description column is not part of the SELECT
+        query.select(cb.construct(TaskSummaryResponse.class, id, task.get("title"), task.get("status"), updatedAt))
+             .where(predicates.toArray(new Predicate[0]));
+        if (orderByUpdatedAt) {
+            query.orderBy(cb.asc(updatedAt), cb.asc(id));
+        } else {
+            query.orderBy(cb.asc(id));
+        }
+
+        return entityManager.createQuery(query)
+                            .setFirstResult(offset)
+                            .setMaxResults(limit)
+                            .getResultList();
+    }
+
+}
@@ -0,0 +1,27 @@
+package com.example.task_management.repository;
+
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import com.example.task_management.dto.response.TaskUpdateResponse;
+import com.example.task_management.model.TaskUpdate;
+
+
+public interface TaskUpdateRepository extends JpaRepository<TaskUpdate, Long> {
+
+    String SELECT_TASK_UPDATE_RESPONSE = "select new com.example.task_management.dto.response.TaskUpdateResponse("
+                                       + "u.id, u.taskId, u.field, u.oldValue, u.newValue, u.changedAt) "
+                                       + "from TaskUpdate u ";
+
+    // keyset pagination, newest first, on the (TASK_ID, ID) index
+
+    @Query(SELECT_TASK_UPDATE_RESPONSE + "where u.taskId = :taskId order by u.id desc")
+    List<TaskUpdateResponse> findDtoByTaskId(@Param("taskId") Long taskId, Pageable pageable);
+
+    @Query(SELECT_TASK_UPDATE_RESPONSE + "where u.taskId = :taskId and u.id < :before order by u.id desc")
+    List<TaskUpdateResponse> findDtoByTaskIdBefore(@Param("taskId") Long taskId,
+                                                   @Param("before") Long before,
+                                                   Pageable pageable);
+}
@@ -0,0 +1,202 @@
+package com.example.task_management.rest;
+
+import static com.example.task_management.rest.TaskController.NEXT_CURSOR_HEADER;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import javax.servlet.http.HttpServletResponse;
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Min;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.async.WebAsyncTask;
+import com.example.task_management.config.AsyncConfig;
+import com.example.task_management.dto.response.TaskResponse;
+import com.example.task_management.dto.response.TaskSummaryResponse;
+import com.example.task_management.model.TaskStatus;
+import com.example.task_management.service.AsyncTaskService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+
+
+/**
+ * Non-blocking variant of the task read endpoints.
+ * <p>
+ * Handlers return immediately with a {@link CompletableFuture} and the servlet thread is released
+ * while the query runs on a bounded executor; responses, including their ETags, are the same as
+ * {@code /api/tasks}.
+ * When the executor is saturated requests fail fast with 503.
+ * All endpoints are secured with Basic Authentication.
+ * </p>
+ */
+@RestController
+@Validated
+@RequestMapping("/api/async/tasks")
+public class AsyncTaskController {
+
+	@Autowired
+    private AsyncTaskService asyncTaskService;
+
+	@Autowired
+	@Qualifier(AsyncConfig.TASK_EXPORT_EXECUTOR)
+    private AsyncTaskExecutor exportExecutor;
+
+	@Value("${task.async.export.timeout:1h}")
+    private Duration exportTimeout;
+
+
+	/**
+     * Retrieve a task by its ID without blocking a servlet thread.
+     *
+     * <p>
+     * As with {@code GET /api/tasks/{id}}, when {@code If-None-Match} is sent only the version of the
+     * task is looked up, and 304 is returned if it still matches.
+     * </p>
+     *
+     * @param id          the ID of the task
+     * @param ifNoneMatch optional tags of the client copies
+     * @return the task found with HTTP status 200, or 304 if the client copy is current
+     */
+    @Operation(summary = "Get a task by ID (non-blocking)")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Task found"),
+        @ApiResponse(responseCode = "304", description = "Task not modified"),
+        @ApiResponse(responseCode = "404", description = "Task not found"),
+        @ApiResponse(responseCode = "503", description = "Too many concurrent reads")
+    })
+    @GetMapping("/{id}")
+    public CompletableFuture<ResponseEntity<TaskResponse>> get(
+            @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+
+        if (ifNoneMatch == null) {
+            return getTask(id);
+        }
+
+        return asyncTaskService.getVersion(id).thenCompose(version -> {
+            String tag = TaskETags.of(id, version);
+            if (TaskETags.matches(ifNoneMatch, tag)) {
+                return CompletableFuture.completedFuture(ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(tag).build());
+            }
+            return getTask(id);
+        });
+    }
+
+    private CompletableFuture<ResponseEntity<TaskResponse>> getTask(Long id) {
+        return asyncTaskService.getById(id).thenApply(res -> ResponseEntity.ok().eTag(TaskETags.of(res)).body(res));
+    }
+
+    /**
+     * Retrieve a page of tasks without blocking a servlet thread.
+     *
+     * <p>
+     * Parameters and cursor handling are those of {@code GET /api/tasks}.
+     * </p>
+     *
+     * @param status optional status filter
+     * @param page   the page number to retrieve (0-based), ignored in cursor mode
+     * @param size   the number of tasks per page
+     * @param after  optional opaque cursor returned by the previous page
+     * @param sort   sort key used in cursor mode, {@code id} (default) or {@code updatedAt}
+     * @param view   {@code full} (default) or {@code summary}
+     * @return a list of {@link TaskResponse}, or of {@link TaskSummaryResponse} for the summary view, with HTTP status 200
+     */
+    @Operation(summary = "List tasks (non-blocking)")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "List of tasks retrieved successfully"),
+        @ApiResponse(responseCode = "400", description = "Invalid page, page size, cursor, sort key or view"),
+        @ApiResponse(responseCode = "503", description = "Too many concurrent reads")
+    })
+    @GetMapping
+    public CompletableFuture<ResponseEntity<List<?>>> tasksList(
+            @Parameter(description = "Filter tasks by status")
+            @RequestParam(required = false) TaskStatus status,
+            @Parameter(description = "Page number (0-based) to retrieve. Default is 0")
+            @RequestParam(defaultValue = "0") @Min(0) @Max(TaskController.MAX_PAGE) int page,
+            @Parameter(description = "Number of tasks per page, from 1 to 1000. Default is 20")
+            @RequestParam(defaultValue = "20") @Min(1) @Max(TaskController.MAX_PAGE_SIZE) int size,
+            @Parameter(description = "Cursor returned by the previous page; enables cursor mode (empty for the first page)")
+            @RequestParam(required = false) String after,
+            @Parameter(description = "Sort key in cursor mode: id (default) or updatedAt")
+            @RequestParam(defaultValue = "id") String sort,
+            @Parameter(description = "Representation of each task: full (default) or summary, without the description")
+            @RequestParam(defaultValue = TaskController.VIEW_FULL) String view) {
+
+        if (TaskController.isSummaryView(view)) {
+            return summaryList(status, page, size, after, sort);
+        }
+
+        if (after == null) {
+            return asyncTaskService.getDtoList(status, page, size)
+                                   .thenApply(tasks -> ResponseEntity.ok().eTag(TaskETags.ofPage(tasks, null)).body(tasks));
+        }
+
+        return asyncTaskService.getDtoListAfter(status, after, sort, size).thenApply(res -> {
+            ResponseEntity.BodyBuilder builder = ResponseEntity.ok().eTag(TaskETags.ofPage(res.getTasks(), res.getNextCursor()));
+            if (res.getNextCursor() != null) {
+                builder.header(NEXT_CURSOR_HEADER, res.getNextCursor());
+            }
+            return builder.body(res.getTasks());
+        });
+    }
+
+    private CompletableFuture<ResponseEntity<List<?>>> summaryList(TaskStatus status, int page, int size,
+                                                                   String after, String sort) {
+        if (after == null) {
+            return asyncTaskService.getSummaryList(status, page, size)
+                                   .thenApply(tasks -> ResponseEntity.ok().eTag(TaskETags.ofSummaryPage(tasks, null)).body(tasks));
+        }
+
+        return asyncTaskService.getSummaryListAfter(status, after, sort, size).thenApply(res -> {
+            ResponseEntity.BodyBuilder builder = ResponseEntity.ok().eTag(TaskETags.ofSummaryPage(res.getTasks(), res.getNextCursor()));
+            if (res.getNextCursor() != null) {
+                builder.header(NEXT_CURSOR_HEADER, res.getNextCursor());
+            }
+            return builder.body(res.getTasks());
+        });
+    }
+
+    /**
+     * Stream every task as newline-delimited JSON from the export executor.
+     *
+     * <p>
+     * Rows are read from a database cursor only as fast as the client consumes the response,
+     * so a slow reader applies backpressure all the way down to the query. The export runs on its
+     * own pool, with the {@code task.async.export.timeout} timeout instead of the one of point reads.
+     * </p>
+     *
+     * @param response the response the tasks are written to
+     * @return the task writing the NDJSON body with HTTP status 200
+     */
+    @Operation(summary = "Stream all tasks as NDJSON (non-blocking)")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Tasks streamed successfully"),
+        @ApiResponse(responseCode = "503", description = "Too many concurrent exports")
+    })
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public WebAsyncTask<Void> export(HttpServletResponse response) {
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        return new WebAsyncTask<>(exportTimeout.toMillis(), exportExecutor, () -> {
+            asyncTaskService.exportAll(response.getOutputStream());
+            return null;
+        });
+    }
+
+}
@@ -0,0 +1,67 @@
+package com.example.task_management.rest;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import com.example.task_management.dto.response.CacheStatsResponse;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+
+
+/**
+ * REST controller exposing the statistics of the in-process caches.
+ * <p>
+ * Hit, miss and eviction counters are cumulative since startup and are meant
+ * to size the caches under production load.
+ * </p>
+ */
+@RestController
+@RequestMapping("/api/cache")
+public class CacheController {
+
+	@Autowired
+    private CacheManager cacheManager;
+
+
+    /**
+     * Retrieve the statistics of every cache, keyed by cache name.
+     *
+     * @return the statistics of each cache with HTTP status 200
+     */
+    @Operation(summary = "Get cache statistics")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Cache statistics retrieved successfully")
+    })
+    @GetMapping("/stats")
+    public ResponseEntity<Map<String, CacheStatsResponse>> stats() {
+        Map<String, CacheStatsResponse> res = new LinkedHashMap<>();
+
+        for (String name : cacheManager.getCacheNames()) {
+            Cache cache = cacheManager.getCache(name);
+            if (cache == null || !(cache.getNativeCache() instanceof com.github.benmanes.caffeine.cache.Cache)) continue;
+
+            com.github.benmanes.caffeine.cache.Cache<?, ?> nativeCache =
+                    (com.github.benmanes.caffeine.cache.Cache<?, ?>) cache.getNativeCache();
+            CacheStats stats = nativeCache.stats();
+
+            res.put(name, CacheStatsResponse.builder()
+                                            .size(nativeCache.estimatedSize())
+                                            .hitCount(stats.hitCount())
+                                            .missCount(stats.missCount())
+                                            .evictionCount(stats.evictionCount())
+                                            .hitRate(stats.hitRate())
+                                            .build());
+        }
+
+        return ResponseEntity.ok(res);
+    }
+
+}
@@ -1,23 +1,49 @@
 package com.example.task_management.rest;
 
+import java.io.IOException;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Min;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 import com.example.task_management.dto.request.TaskRequest;
+import com.example.task_management.dto.request.TaskTransitionRequest;
+import com.example.task_management.dto.response.BulkOperationResponse;
+import com.example.task_management.dto.response.TaskBatchItemResponse;
+import com.example.task_management.dto.response.TaskCursorPageResponse;
+import com.example.task_management.dto.response.TaskHistoryPageResponse;
+import com.example.task_management.dto.response.TaskImportResponse;
 import com.example.task_management.dto.response.TaskResponse;
+import com.example.task_management.dto.response.TaskStatsResponse;
+import com.example.task_management.dto.response.TaskSummaryPageResponse;
+import com.example.task_management.dto.response.TaskSummaryResponse;
+import com.example.task_management.dto.response.TaskUpdateResponse;
 import com.example.task_management.model.TaskStatus;
+import com.example.task_management.service.TaskChangeFeed;
 import com.example.task_management.service.TaskService;
+import com.example.task_management.service.TaskWriteBatcher;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -28,48 +54,175 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
  * REST controller for managing tasks.
  * <p>
  * Provides endpoints to create, retrieve, update, delete, and list tasks.
+ * Single-task creates and updates go through {@link TaskWriteBatcher}, which commits
+ * them together with concurrent writes when group commit is enabled.
  * All endpoints are secured with Basic Authentication.
  * </p>
  */
 @RestController
+@Validated
 @RequestMapping("/api/tasks")
 public class TaskController {
 
+    static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    static final String VIEW_FULL = "full";
+    static final String VIEW_SUMMARY = "summary";
+    static final String TEXT_CSV_VALUE = "text/csv";
+    static final int MAX_PAGE_SIZE = 1000;
+    // keeps page * size, the offset of the page, within an int
+    static final int MAX_PAGE = Integer.MAX_VALUE / MAX_PAGE_SIZE;
+
 	@Autowired
     private TaskService taskService;
 
+	@Autowired
+    private TaskChangeFeed taskChangeFeed;
+
+	@Autowired
+    private TaskWriteBatcher taskWriteBatcher;
+
 
 	/**
      * Create a new task.
      *
+     * <p>
+     * With group commit enabled, the insert is committed together with concurrent writes
+     * and the response is sent once that transaction has committed.
+     * </p>
+     *
      * @param req the task request containing title, description, and status
      * @return the created task with HTTP status 201
      */
     @Operation(summary = "Create a new task")
     @ApiResponses({
         @ApiResponse(responseCode = "201", description = "Task successfully created"),
-        @ApiResponse(responseCode = "400", description = "Invalid input")
+        @ApiResponse(responseCode = "400", description = "Invalid input"),
+        @ApiResponse(responseCode = "503", description = "Too many pending writes")
     })
     @PostMapping
-    public ResponseEntity<TaskResponse> create(@Validated @RequestBody TaskRequest req) {
-        TaskResponse res = taskService.create(req);
-        return ResponseEntity.status(HttpStatus.CREATED).body(res);
+    public CompletableFuture<ResponseEntity<TaskResponse>> create(@Validated @RequestBody TaskRequest req) {
+        return taskWriteBatcher.submit(() -> taskService.create(req))
+                               .thenApply(res -> ResponseEntity.status(HttpStatus.CREATED).body(res));
+    }
+
+    /**
+     * Create many tasks in a single transaction.
+     *
+     * <p>
+     * Items are validated one by one: invalid items are reported with their errors
+     * and the valid ones are inserted using JDBC batching. The list must hold between
+     * one and {@code task.batch.max-size} items.
+     * </p>
+     *
+     * @param reqs the list of task requests
+     * @return the per-item results with HTTP status 201, or 207 if some items failed
+     */
+    @Operation(summary = "Create tasks in bulk")
+    @ApiResponses({
+        @ApiResponse(responseCode = "201", description = "All tasks successfully created"),
+        @ApiResponse(responseCode = "207", description = "Some tasks were rejected, see per-item results"),
+        @ApiResponse(responseCode = "400", description = "Empty list or too many tasks")
+    })
+    @PostMapping("/batch")
+    public ResponseEntity<List<TaskBatchItemResponse>> createAll(@RequestBody List<TaskRequest> reqs) {
+        List<TaskBatchItemResponse> res = taskService.createAll(reqs);
+        boolean allCreated = res.stream().allMatch(r -> r.getStatus() == HttpStatus.CREATED.value());
+        return ResponseEntity.status(allCreated ? HttpStatus.CREATED : HttpStatus.MULTI_STATUS).body(res);
+    }
+
+    /**
+     * Import tasks from a CSV or NDJSON file.
+     *
+     * <p>
+     * The body is parsed incrementally as it is received, never buffered whole. Rows are validated
+     * like single creates and inserted in batched transactions of {@code task.bulk.chunk-size} rows.
+     * Invalid rows are skipped and reported with their line number.
+     * </p>
+     *
+     * @param contentType {@code text/csv} (with a header row) or {@code application/x-ndjson}
+     * @param request     the servlet request the file is read from
+     * @return the import summary with HTTP status 201, or 207 if some rows were rejected
+     * @throws IOException if reading the request fails
+     */
+    @Operation(summary = "Import tasks from CSV or NDJSON")
+    @ApiResponses({
+        @ApiResponse(responseCode = "201", description = "All rows imported"),
+        @ApiResponse(responseCode = "207", description = "Some rows were rejected, see the row errors"),
+        @ApiResponse(responseCode = "400", description = "Invalid CSV header")
+    })
+    @PostMapping(value = "/import", consumes = {TEXT_CSV_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public ResponseEntity<TaskImportResponse> importTasks(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType,
+            HttpServletRequest request) throws IOException {
+
+        TaskImportResponse res = taskService.importTasks(request.getInputStream(), contentType);
+        return ResponseEntity.status(res.getFailed() == 0 ? HttpStatus.CREATED : HttpStatus.MULTI_STATUS).body(res);
     }
 
     /**
      * Retrieve a task by its ID.
      *
-     * @param id the ID of the task
-     * @return the task found with HTTP status 200
+     * <p>
+     * The response carries a strong {@code ETag} derived from the ID and the last update time.
+     * When {@code If-None-Match} is sent, only the version of the task is looked up and
+     * 304 is returned if it still matches.
+     * </p>
+     *
+     * @param id      the ID of the task
+     * @param request the current request, for the conditional headers
+     * @return the task found with HTTP status 200, or 304 if the client copy is current
      */
     @Operation(summary = "Get a task by ID")
     @ApiResponses({
         @ApiResponse(responseCode = "200", description = "Task found"),
+        @ApiResponse(responseCode = "304", description = "Task not modified"),
         @ApiResponse(responseCode = "404", description = "Task not found")
     })
     @GetMapping("/{id}")
-    public ResponseEntity<TaskResponse> get(@PathVariable Long id) {
-        return ResponseEntity.ok(taskService.getById(id));
+    public ResponseEntity<TaskResponse> get(@PathVariable Long id, WebRequest request) {
+        if (request.getHeader(HttpHeaders.IF_NONE_MATCH) != null
+                && request.checkNotModified(TaskETags.of(id, taskService.getVersion(id)))) {
+            return null;
+        }
+
+        TaskResponse res = taskService.getById(id);
+        return ResponseEntity.ok().eTag(TaskETags.of(res)).body(res);
+    }
+
+    /**
+     * Retrieve the change history of a task, newest first.
+     *
+     * <p>
+     * Each entry is one changed field with its previous and new value. Pages are read by keyset:
+     * pass the {@value #NEXT_CURSOR_HEADER} header of a page as {@code after} to get the next one;
+     * the header is absent on the last page. Entries are written asynchronously, so a just
+     * committed update may take a moment to appear.
+     * </p>
+     *
+     * @param id    the ID of the task
+     * @param after the cursor returned by the previous page, absent for the first page
+     * @param size  the number of entries per page, at most {@value #MAX_PAGE_SIZE}. Default is 20.
+     * @return the history entries with HTTP status 200
+     */
+    @Operation(summary = "Get the change history of a task")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "History retrieved successfully"),
+        @ApiResponse(responseCode = "400", description = "Invalid page size")
+    })
+    @GetMapping("/{id}/history")
+    public ResponseEntity<List<TaskUpdateResponse>> history(
+            @PathVariable Long id,
+            @Parameter(description = "Cursor returned by the previous page")
+            @RequestParam(required = false) Long after,
+            @Parameter(description = "Number of entries per page, from 1 to 1000. Default is 20")
+            @RequestParam(defaultValue = "20") @Min(1) @Max(MAX_PAGE_SIZE) int size) {
+
+        TaskHistoryPageResponse res = taskService.getHistory(id, after, size);
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok();
+        if (res.getNextCursor() != null) {
+            builder.header(NEXT_CURSOR_HEADER, res.getNextCursor().toString());
+        }
+        return builder.body(res.getUpdates());
     }
 
     /**
@@ -80,25 +233,178 @@ public class TaskController {
      * You can optionally filter the tasks by their status.
      * </p>
      *
+     * <p>
+     * When {@code after} is present (empty for the first page) the endpoint switches to
+     * cursor mode: {@code page} is ignored and the cursor of the next page is returned
+     * in the {@value #NEXT_CURSOR_HEADER} header, which is absent on the last page.
+     * </p>
+     *
+     * <p>
+     * The page carries a weak {@code ETag} computed from the view and the IDs and update times of
+     * its tasks; a matching {@code If-None-Match} gets 304 without the body being serialized.
+     * </p>
+     *
+     * <p>
+     * With {@code view=summary} each task is a {@link TaskSummaryResponse} (id, title, status,
+     * updatedAt); the description is not even read from the database.
+     * </p>
+     *
      * @param status optional status filter (e.g., PENDING, IN_PROGRESS, DONE)
      * @param page   the page number to retrieve (0-based). Default is 0.
-     * @param size   the number of tasks per page. Default is 20.
-     * @return a list of {@link TaskResponse} with HTTP status 200
+     * @param size   the number of tasks per page, at most {@value #MAX_PAGE_SIZE}. Default is 20.
+     * @param after  optional opaque cursor returned by the previous page
+     * @param sort   sort key used in cursor mode, {@code id} (default) or {@code updatedAt}
+     * @param view   {@code full} (default) or {@code summary}
+     * @return a list of {@link TaskResponse}, or of {@link TaskSummaryResponse} for the summary view, with HTTP status 200
      */
     @Operation(summary = "List tasks")
     @ApiResponses({
-        @ApiResponse(responseCode = "200", description = "List of tasks retrieved successfully")
+        @ApiResponse(responseCode = "200", description = "List of tasks retrieved successfully"),
+        @ApiResponse(responseCode = "304", description = "Page not modified"),
+        @ApiResponse(responseCode = "400", description = "Invalid page, page size, cursor, sort key or view")
     })
     @GetMapping
-    public ResponseEntity<List<TaskResponse>> tasksList(
+    public ResponseEntity<List<?>> tasksList(
     		@Parameter(description = "Filter tasks by status")
             @RequestParam(required = false) TaskStatus status,
             @Parameter(description = "Page number (0-based) to retrieve. Default is 0")
-            @RequestParam(defaultValue = "0") int page,
-            @Parameter(description = "Number of tasks per page. Default is 20")
-            @RequestParam(defaultValue = "20") int size) {
+            @RequestParam(defaultValue = "0") @Min(0) @Max(MAX_PAGE) int page,
+            @Parameter(description = "Number of tasks per page, from 1 to 1000. Default is 20")
+            @RequestParam(defaultValue = "20") @Min(1) @Max(MAX_PAGE_SIZE) int size,
+            @Parameter(description = "Cursor returned by the previous page; enables cursor mode (empty for the first page)")
+            @RequestParam(required = false) String after,
+            @Parameter(description = "Sort key in cursor mode: id (default) or updatedAt")
+            @RequestParam(defaultValue = "id") String sort,
+            @Parameter(description = "Representation of each task: full (default) or summary, without the description")
+            @RequestParam(defaultValue = VIEW_FULL) String view) {
+
+        if (isSummaryView(view)) {
+            return summaryList(status, page, size, after, sort);
+        }
+
+        if (after == null) {
+            List<TaskResponse> tasks = taskService.getDtoList(status, page, size);
+            return ResponseEntity.ok().eTag(TaskETags.ofPage(tasks, null)).body(tasks);
+        }
+
+        TaskCursorPageResponse res = taskService.getDtoListAfter(status, after, sort, size);
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok().eTag(TaskETags.ofPage(res.getTasks(), res.getNextCursor()));
+        if (res.getNextCursor() != null) {
+            builder.header(NEXT_CURSOR_HEADER, res.getNextCursor());
+        }
+        return builder.body(res.getTasks());
+    }
+
+    private ResponseEntity<List<?>> summaryList(TaskStatus status, int page, int size, String after, String sort) {
+        if (after == null) {
+            List<TaskSummaryResponse> tasks = taskService.getSummaryList(status, page, size);
+            return ResponseEntity.ok().eTag(TaskETags.ofSummaryPage(tasks, null)).body(tasks);
+        }
+
+        TaskSummaryPageResponse res = taskService.getSummaryListAfter(status, after, sort, size);
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok().eTag(TaskETags.ofSummaryPage(res.getTasks(), res.getNextCursor()));
+        if (res.getNextCursor() != null) {
+            builder.header(NEXT_CURSOR_HEADER, res.getNextCursor());
+        }
+        return builder.body(res.getTasks());
+    }
 
-        return ResponseEntity.ok(taskService.getDtoList(status, page, size));
+    static boolean isSummaryView(String view) {
+        if (VIEW_SUMMARY.equals(view)) return true;
+        if (view == null || view.isBlank() || VIEW_FULL.equals(view)) return false;
+        throw new IllegalArgumentException("Invalid value for 'view'. Allowed values: " + VIEW_FULL + ", " + VIEW_SUMMARY);
+    }
+
+    /**
+     * Export every task as newline-delimited JSON.
+     *
+     * <p>
+     * Tasks are streamed from a database cursor straight to the response body,
+     * one JSON object per line, so memory use stays flat regardless of the table size.
+     * </p>
+     *
+     * @param response the servlet response the tasks are written to
+     * @throws IOException if writing the response fails
+     */
+    @Operation(summary = "Export all tasks as NDJSON")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Tasks exported successfully")
+    })
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public void export(HttpServletResponse response) throws IOException {
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        taskService.exportAll(response.getOutputStream());
+    }
+
+    /**
+     * Retrieve the number of tasks per status.
+     *
+     * <p>
+     * Counts are served from in-memory counters that are reconciled with the
+     * database periodically, so polling this endpoint does not scan the table.
+     * </p>
+     *
+     * @return the total and per-status task counts with HTTP status 200
+     */
+    @Operation(summary = "Get task counts per status")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Task statistics retrieved successfully")
+    })
+    @GetMapping("/stats")
+    public ResponseEntity<TaskStatsResponse> stats() {
+        return ResponseEntity.ok(taskService.getStats());
+    }
+
+    /**
+     * Subscribe to task changes as server-sent events.
+     *
+     * <p>
+     * Events are named {@code created}, {@code updated}, {@code deleted} or {@code reset}; their
+     * data is a {@link com.example.task_management.dto.response.TaskChangeEvent}. A client
+     * reconnecting with the {@code Last-Event-ID} header receives the events it missed, or a
+     * {@code reset} event when they are no longer available or the server restarted since.
+     * Slow clients are disconnected.
+     * </p>
+     *
+     * @param lastEventId the id of the last event received, if resuming
+     * @return the event stream
+     */
+    @Operation(summary = "Stream task changes (server-sent events)")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Event stream opened")
+    })
+    @GetMapping(value = "/changes", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter changes(
+            @Parameter(description = "Id of the last event received, to resume the stream")
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        return taskChangeFeed.subscribe(lastEventId);
+    }
+
+    /**
+     * Search tasks by keywords in their title and description.
+     *
+     * <p>
+     * Every term must match; a term ending with {@code *} matches as a prefix
+     * (e.g. {@code q=math exer*}). Results are ranked by relevance, title matches weighing more.
+     * </p>
+     *
+     * @param q    the search terms, separated by spaces
+     * @param size the maximum number of tasks returned, at most {@value #MAX_PAGE_SIZE}. Default is 20.
+     * @return the matching tasks, most relevant first, with HTTP status 200
+     */
+    @Operation(summary = "Search tasks")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Matching tasks retrieved successfully"),
+        @ApiResponse(responseCode = "400", description = "Missing or empty query, or invalid size")
+    })
+    @GetMapping("/search")
+    public ResponseEntity<List<TaskResponse>> search(
+            @Parameter(description = "Search terms; all must match, a trailing * matches a prefix")
+            @RequestParam String q,
+            @Parameter(description = "Maximum number of tasks returned, from 1 to 1000. Default is 20")
+            @RequestParam(defaultValue = "20") @Min(1) @Max(MAX_PAGE_SIZE) int size) {
+        return ResponseEntity.ok(taskService.search(q, size));
     }
 
     /**
@@ -112,14 +418,46 @@ public class TaskController {
     @ApiResponses({
         @ApiResponse(responseCode = "200", description = "Task updated successfully"),
         @ApiResponse(responseCode = "400", description = "Invalid input"),
-        @ApiResponse(responseCode = "404", description = "Task not found")
+        @ApiResponse(responseCode = "404", description = "Task not found"),
+        @ApiResponse(responseCode = "503", description = "Too many pending writes")
     })
     @PutMapping("/{id}")
-    public ResponseEntity<TaskResponse> update(
+    public CompletableFuture<ResponseEntity<TaskResponse>> update(
             @PathVariable Long id,
             @Validated @RequestBody TaskRequest req) {
 
-        return ResponseEntity.ok(taskService.update(id, req));
+        return taskWriteBatcher.submit(() -> taskService.update(id, req)).thenApply(ResponseEntity::ok);
+    }
+
+    /**
+     * Partially update an existing task.
+     *
+     * <p>
+     * Only the fields present in the request are changed, with a single targeted
+     * update statement. The task is first locked and its previous title and status, and description
+     * when it is replaced, are read for the history; the task is not returned.
+     * </p>
+     *
+     * @param id  the ID of the task to update
+     * @param req the task request containing the fields to change
+     * @return HTTP status 204 if the update is successful
+     */
+    @Operation(summary = "Partially update single task")
+    @ApiResponses({
+        @ApiResponse(responseCode = "204", description = "Task updated successfully"),
+        @ApiResponse(responseCode = "400", description = "Invalid input"),
+        @ApiResponse(responseCode = "404", description = "Task not found"),
+        @ApiResponse(responseCode = "503", description = "Too many pending writes")
+    })
+    @PatchMapping("/{id}")
+    public CompletableFuture<ResponseEntity<Void>> patch(
+            @PathVariable Long id,
+            @RequestBody TaskRequest req) {
+
+        return taskWriteBatcher.submit(() -> {
+            taskService.patch(id, req);
+            return ResponseEntity.noContent().<Void>build();
+        });
     }
 
     /**
@@ -139,4 +477,58 @@ public class TaskController {
         return ResponseEntity.noContent().build();
     }
 
+    /**
+     * Delete many tasks, either by ID or by status and last update time.
+     *
+     * <p>
+     * Tasks are deleted in chunks with set-based statements; no task is loaded.
+     * At least one filter is required.
+     * </p>
+     *
+     * @param ids           optional IDs of the tasks to delete
+     * @param status        optional status of the tasks to delete, ignored when {@code ids} is given
+     * @param updatedBefore optional upper bound of the last update time, ignored when {@code ids} is given
+     * @return the number of deleted tasks with HTTP status 200
+     */
+    @Operation(summary = "Delete tasks in bulk")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Tasks deleted successfully"),
+        @ApiResponse(responseCode = "400", description = "No filter given")
+    })
+    @DeleteMapping
+    public ResponseEntity<BulkOperationResponse> deleteAll(
+            @Parameter(description = "IDs of the tasks to delete")
+            @RequestParam(required = false) List<Long> ids,
+            @Parameter(description = "Delete tasks with this status")
+            @RequestParam(required = false) TaskStatus status,
+            @Parameter(description = "Delete tasks last updated before this time (ISO date-time)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime updatedBefore) {
+
+        if (ids != null && !ids.isEmpty()) {
+            return ResponseEntity.ok(taskService.deleteByIds(ids));
+        }
+        return ResponseEntity.ok(taskService.deleteMatching(status, updatedBefore));
+    }
+
+    /**
+     * Move every task in a status to another status, optionally only the ones
+     * last updated before a given time.
+     *
+     * <p>
+     * Tasks are updated in chunks with set-based statements; no task is loaded.
+     * </p>
+     *
+     * @param req the source and target statuses and the optional time bound
+     * @return the number of transitioned tasks with HTTP status 200
+     */
+    @Operation(summary = "Transition tasks in bulk")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Tasks transitioned successfully"),
+        @ApiResponse(responseCode = "400", description = "Invalid input")
+    })
+    @PostMapping("/transition")
+    public ResponseEntity<BulkOperationResponse> transition(@Validated @RequestBody TaskTransitionRequest req) {
+        return ResponseEntity.ok(taskService.transition(req));
+    }
+
 }
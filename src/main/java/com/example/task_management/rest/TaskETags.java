@@ -0,0 +1,85 @@
+package com.example.task_management.rest;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import com.example.task_management.dto.response.TaskResponse;
+import com.example.task_management.dto.response.TaskSummaryResponse;
+
+
+/**
+ * Entity tags of task representations, derived from the task versions.
+ * <p>
+ * A task is identified by its ID and versioned by {@code updatedAt}, which every write path sets,
+ * so the tag of a single task is computed without mapping or serializing it. A page tag hashes
+ * the view, the ID and version of each task on the page, in order, plus the cursor of the next page.
+ * Single tasks get strong tags; page tags are weak, since pages may be sent gzip-compressed.
+ * </p>
+ */
+final class TaskETags {
+
+    private TaskETags() {
+    }
+
+    static String of(Long id, LocalDateTime updatedAt) {
+        return "\"" + id + "-" + Long.toHexString(micros(updatedAt)) + "\"";
+    }
+
+    static String of(TaskResponse task) {
+        return of(task.getId(), task.getUpdatedAt());
+    }
+
+    /**
+     * Tells whether an {@code If-None-Match} header matches a strong tag, with the weak comparison
+     * used for {@code GET}: a listed tag matches with or without its {@code W/} prefix.
+     */
+    static boolean matches(String ifNoneMatch, String tag) {
+        if (ifNoneMatch == null) return false;
+        // the quotes delimit each listed tag, so a plain search cannot match part of another one
+        return ifNoneMatch.trim().equals("*") || ifNoneMatch.contains(tag);
+    }
+
+    static String ofPage(List<TaskResponse> tasks, String nextCursor) {
+        StringBuilder key = new StringBuilder(tasks.size() * 24).append("full;");
+        for (TaskResponse task : tasks) {
+            key.append(task.getId()).append(':').append(micros(task.getUpdatedAt())).append(',');
+        }
+        return pageTag(key.append(nextCursor));
+    }
+
+    static String ofSummaryPage(List<TaskSummaryResponse> tasks, String nextCursor) {
+        StringBuilder key = new StringBuilder(tasks.size() * 24).append("summary;");
+        for (TaskSummaryResponse task : tasks) {
+            key.append(task.getId()).append(':').append(micros(task.getUpdatedAt())).append(',');
+        }
+        return pageTag(key.append(nextCursor));
+    }
+
+    // weak: Tomcat does not gzip responses with a strong tag, and the encoded bytes differ
+    private static String pageTag(CharSequence key) {
+        byte[] hash = sha256().digest(key.toString().getBytes(StandardCharsets.UTF_8));
+        StringBuilder tag = new StringBuilder("W/\"p-");
+        for (int i = 0; i < 16; i++) {
+            tag.append(Character.forDigit((hash[i] >> 4) & 0xF, 16)).append(Character.forDigit(hash[i] & 0xF, 16));
+        }
+        return tag.append('"').toString();
+    }
+
+    // the database keeps microseconds
+    private static long micros(LocalDateTime time) {
+        if (time == null) return 0;
+        return time.toEpochSecond(ZoneOffset.UTC) * 1_000_000 + time.getNano() / 1_000;
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+}
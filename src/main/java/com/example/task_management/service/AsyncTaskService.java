@@ -0,0 +1,23 @@
+package com.example.task_management.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import com.example.task_management.dto.response.TaskCursorPageResponse;
+import com.example.task_management.dto.response.TaskResponse;
+import com.example.task_management.dto.response.TaskSummaryPageResponse;
+import com.example.task_management.dto.response.TaskSummaryResponse;
+import com.example.task_management.model.TaskStatus;
+
+
+public interface AsyncTaskService {
+	CompletableFuture<TaskResponse> getById(Long id);
+	CompletableFuture<LocalDateTime> getVersion(Long id);
+	CompletableFuture<List<TaskResponse>> getDtoList(TaskStatus status, int page, int size);
+	CompletableFuture<TaskCursorPageResponse> getDtoListAfter(TaskStatus status, String after, String sort, int size);
+	CompletableFuture<List<TaskSummaryResponse>> getSummaryList(TaskStatus status, int page, int size);
+	CompletableFuture<TaskSummaryPageResponse> getSummaryListAfter(TaskStatus status, String after, String sort, int size);
+	long exportAll(OutputStream out) throws IOException;
+}
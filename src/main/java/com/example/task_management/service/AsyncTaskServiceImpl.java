@@ -0,0 +1,84 @@
+package com.example.task_management.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+import com.example.task_management.config.AsyncConfig;
+import com.example.task_management.dto.response.TaskCursorPageResponse;
+import com.example.task_management.dto.response.TaskResponse;
+import com.example.task_management.dto.response.TaskSummaryPageResponse;
+import com.example.task_management.dto.response.TaskSummaryResponse;
+import com.example.task_management.model.TaskStatus;
+
+
+/**
+ * Non-blocking facade over the read operations of {@link TaskService}.
+ * <p>
+ * Each call is submitted to the bounded {@value AsyncConfig#TASK_READ_EXECUTOR} pool and completes
+ * the returned future from there, so the caller's thread never waits on the database. Caching,
+ * transactions and metrics are those of {@link TaskService}. A full pool rejects the submission
+ * with a {@link org.springframework.core.task.TaskRejectedException}.
+ * </p>
+ */
+@Service
+public class AsyncTaskServiceImpl implements AsyncTaskService {
+
+	@Autowired
+	private TaskService taskService;
+
+	@Autowired
+	@Qualifier(AsyncConfig.TASK_READ_EXECUTOR)
+	private Executor executor;
+
+
+	@Override
+	public CompletableFuture<TaskResponse> getById(Long id) {
+		return CompletableFuture.supplyAsync(() -> taskService.getById(id), executor);
+	}
+
+	@Override
+	public CompletableFuture<LocalDateTime> getVersion(Long id) {
+		return CompletableFuture.supplyAsync(() -> taskService.getVersion(id), executor);
+	}
+
+	@Override
+	public CompletableFuture<List<TaskResponse>> getDtoList(TaskStatus status, int page, int size) {
+		return CompletableFuture.supplyAsync(() -> taskService.getDtoList(status, page, size), executor);
+	}
+
+	@Override
+	public CompletableFuture<TaskCursorPageResponse> getDtoListAfter(TaskStatus status, String after, String sort, int size) {
+		return CompletableFuture.supplyAsync(() -> taskService.getDtoListAfter(status, after, sort, size), executor);
+	}
+
+	@Override
+	public CompletableFuture<List<TaskSummaryResponse>> getSummaryList(TaskStatus status, int page, int size) {
+		return CompletableFuture.supplyAsync(() -> taskService.getSummaryList(status, page, size), executor);
+	}
+
+	@Override
+	public CompletableFuture<TaskSummaryPageResponse> getSummaryListAfter(TaskStatus status, String after, String sort, int size) {
+		return CompletableFuture.supplyAsync(() -> taskService.getSummaryListAfter(status, after, sort, size), executor);
+	}
+
+	/**
+	 * Streams every task as NDJSON on the calling thread.
+	 * <p>
+	 * Meant to run inside a {@code WebAsyncTask}, i.e. already on the export pool. Writes block
+	 * while the client is not reading, and rows are fetched from the database cursor only as fast as
+	 * they are written, so a slow consumer slows the producer instead of filling memory.
+	 * </p>
+	 */
+	@Override
+	public long exportAll(OutputStream out) throws IOException {
+		return taskService.exportAll(out);
+	}
+
+}
@@ -0,0 +1,273 @@
+package com.example.task_management.service;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import javax.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import com.example.task_management.config.AsyncConfig;
+import com.example.task_management.dto.response.TaskChangeEvent;
+import com.example.task_management.dto.response.TaskResponse;
+
+
+/**
+ * Pushes task changes to server-sent event subscribers.
+ * <p>
+ * Changes are published after their transaction commits and numbered by a global sequence. The SSE
+ * event id is {@code <epoch>-<sequence>}, the epoch being the start time of this feed: the sequence
+ * restarts with the process, so an id from a previous process must not be taken for a current one.
+ * The last {@code task.changes.history-size} events are kept, so a client reconnecting with
+ * {@code Last-Event-ID} receives what it missed; if those events are no longer available, or the id
+ * belongs to another epoch, it receives a {@link TaskChangeEvent.Type#RESET} event instead and should
+ * reload.
+ * </p>
+ * <p>
+ * Each subscriber has a queue of {@code task.changes.buffer-size} events drained by the small
+ * {@value AsyncConfig#TASK_CHANGES_EXECUTOR} pool, at most one thread per subscriber at a time.
+ * A subscriber whose queue is full is disconnected rather than slowing down publishers or other
+ * subscribers; it can resume from its last event id. A single commit producing more events than
+ * fit in a buffer (bulk operations) is delivered as one {@link TaskChangeEvent.Type#RESET} event.
+ * Idle subscribers hold no thread, and a heartbeat comment detects closed connections.
+ * </p>
+ */
+@Component
+public class TaskChangeFeed {
+
+    private static final Logger log = LoggerFactory.getLogger(TaskChangeFeed.class);
+
+    private static final TaskChangeEvent HEARTBEAT = new TaskChangeEvent();
+
+    private final Object lock = new Object();
+    private final Deque<TaskChangeEvent> history = new ArrayDeque<>();
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final long epoch = System.currentTimeMillis();
+    private long sequence;
+
+    @Autowired
+    @Qualifier(AsyncConfig.TASK_CHANGES_EXECUTOR)
+    private Executor executor;
+
+    @Value("${task.changes.history-size:1000}")
+    private int historySize;
+
+    @Value("${task.changes.buffer-size:256}")
+    private int bufferSize;
+
+    @Value("${task.changes.timeout:30m}")
+    private Duration timeout;
+
+
+    public void created(Collection<TaskResponse> tasks) {
+        if (tasks.isEmpty()) return;
+        List<TaskChangeEvent> events = new ArrayList<>(tasks.size());
+        for (TaskResponse task : tasks) {
+            events.add(event(TaskChangeEvent.Type.CREATED, task.getId(), task));
+        }
+        TransactionCallbacks.afterCommit(() -> publish(events));
+    }
+
+    public void updated(TaskResponse task) {
+        TransactionCallbacks.afterCommit(() -> publish(List.of(event(TaskChangeEvent.Type.UPDATED, task.getId(), task))));
+    }
+
+    /**
+     * Publishes updates of tasks whose new state was not loaded.
+     */
+    public void updated(Collection<Long> ids) {
+        publishIds(TaskChangeEvent.Type.UPDATED, ids);
+    }
+
+    public void deleted(Collection<Long> ids) {
+        publishIds(TaskChangeEvent.Type.DELETED, ids);
+    }
+
+    /**
+     * Opens a subscription.
+     *
+     * @param lastEventId the id of the last event the client received, or {@code null} for new events only
+     * @return the emitter to return from the controller
+     */
+    public SseEmitter subscribe(String lastEventId) {
+        Subscriber subscriber = new Subscriber(new SseEmitter(timeout.toMillis()), bufferSize);
+        subscriber.emitter.onCompletion(() -> subscribers.remove(subscriber));
+        subscriber.emitter.onTimeout(() -> subscribers.remove(subscriber));
+        subscriber.emitter.onError(e -> subscribers.remove(subscriber));
+
+        synchronized (lock) {
+            if (lastEventId != null) {
+                Long lastSequence = sequenceOf(lastEventId);
+                if (lastSequence == null) {
+                    subscriber.queue.offer(reset());
+                } else if (lastSequence != sequence) {
+                    replay(subscriber, lastSequence);
+                }
+            }
+            subscribers.add(subscriber);
+        }
+        drain(subscriber);
+        return subscriber.emitter;
+    }
+
+    public int subscriberCount() {
+        return subscribers.size();
+    }
+
+    @Scheduled(fixedDelayString = "${task.changes.heartbeat:PT15S}")
+    public void heartbeat() {
+        for (Subscriber subscriber : subscribers) {
+            if (subscriber.queue.isEmpty() && subscriber.queue.offer(HEARTBEAT)) {
+                drain(subscriber);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        subscribers.forEach(subscriber -> subscriber.emitter.complete());
+        subscribers.clear();
+    }
+
+    private void replay(Subscriber subscriber, long lastSequence) {
+        TaskChangeEvent oldest = history.peekFirst();
+        long missed = sequence - lastSequence;
+        if (missed < 0 || oldest == null || oldest.getId() > lastSequence + 1 || missed > bufferSize) {
+            subscriber.queue.offer(reset());
+            return;
+        }
+        for (TaskChangeEvent event : history) {
+            if (event.getId() > lastSequence) {
+                subscriber.queue.offer(event);
+            }
+        }
+    }
+
+    // null when the id is malformed or was sent by another process
+    private Long sequenceOf(String eventId) {
+        int separator = eventId.indexOf('-');
+        if (separator < 0 || !eventId.substring(0, separator).equals(Long.toString(epoch))) {
+            return null;
+        }
+        try {
+            return Long.parseLong(eventId.substring(separator + 1));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private void publishIds(TaskChangeEvent.Type type, Collection<Long> ids) {
+        if (ids.isEmpty()) return;
+        List<TaskChangeEvent> events = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            events.add(event(type, id, null));
+        }
+        TransactionCallbacks.afterCommit(() -> publish(events));
+    }
+
+    private void publish(List<TaskChangeEvent> events) {
+        List<Subscriber> evicted = new ArrayList<>();
+        synchronized (lock) {
+            for (TaskChangeEvent event : events) {
+                event.setId(++sequence);
+                history.addLast(event);
+                if (history.size() > historySize) {
+                    history.removeFirst();
+                }
+            }
+            // a burst larger than any buffer (bulk operations) is announced as a single reset
+            List<TaskChangeEvent> delivered = events.size() <= bufferSize ? events : List.of(reset());
+            // offered under the lock, so every subscriber sees the events in id order
+            for (Subscriber subscriber : subscribers) {
+                for (TaskChangeEvent event : delivered) {
+                    if (!subscriber.queue.offer(event)) {
+                        evicted.add(subscriber);
+                        subscribers.remove(subscriber);
+                        break;
+                    }
+                }
+            }
+        }
+
+        for (Subscriber subscriber : evicted) {
+            log.debug("Disconnecting slow change feed subscriber");
+            subscriber.queue.clear();
+            subscriber.emitter.complete();
+        }
+        subscribers.forEach(this::drain);
+    }
+
+    private void drain(Subscriber subscriber) {
+        if (subscriber.queue.isEmpty() || !subscriber.draining.compareAndSet(false, true)) {
+            return;
+        }
+
+        executor.execute(() -> {
+            try {
+                TaskChangeEvent event;
+                while ((event = subscriber.queue.poll()) != null) {
+                    if (event == HEARTBEAT) {
+                        subscriber.emitter.send(SseEmitter.event().comment("heartbeat"));
+                    } else {
+                        subscriber.emitter.send(SseEmitter.event()
+                                                          .id(epoch + "-" + event.getId())
+                                                          .name(event.getType().name().toLowerCase())
+                                                          .data(event));
+                    }
+                }
+            } catch (IOException | IllegalStateException e) {
+                subscribers.remove(subscriber);
+                subscriber.queue.clear();
+                subscriber.emitter.completeWithError(e);
+            } finally {
+                subscriber.draining.set(false);
+            }
+            // events offered after the last poll but before the flag was cleared
+            drain(subscriber);
+        });
+    }
+
+    private TaskChangeEvent reset() {
+        return TaskChangeEvent.builder()
+                              .id(sequence)
+                              .type(TaskChangeEvent.Type.RESET)
+                              .build();
+    }
+
+    private static TaskChangeEvent event(TaskChangeEvent.Type type, Long taskId, TaskResponse task) {
+        return TaskChangeEvent.builder()
+                              .type(type)
+                              .taskId(taskId)
+                              .task(task)
+                              .build();
+    }
+
+
+    private static final class Subscriber {
+
+        private final SseEmitter emitter;
+        private final BlockingQueue<TaskChangeEvent> queue;
+        private final AtomicBoolean draining = new AtomicBoolean();
+
+        private Subscriber(SseEmitter emitter, int bufferSize) {
+            this.emitter = emitter;
+            this.queue = new ArrayBlockingQueue<>(bufferSize);
+        }
+    }
+
+}
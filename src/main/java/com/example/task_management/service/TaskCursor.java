@@ -0,0 +1,110 @@
+package com.example.task_management.service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import com.example.task_management.dto.response.TaskResponse;
+import com.example.task_management.dto.response.TaskSummaryResponse;
+
+
+/**
+ * Opaque keyset cursor for task listing.
+ * <p>
+ * A cursor holds the sort key of the last task returned in a page and is encoded
+ * as URL-safe Base64, e.g. {@code "id:42"} or {@code "updatedAt:2024-01-01T10:00:00:42"}.
+ * </p>
+ */
+final class TaskCursor {
+
+    enum Sort {
+        ID("id"),
+        UPDATED_AT("updatedAt");
+
+        private final String param;
+
+        Sort(String param) {
+            this.param = param;
+        }
+
+        static Sort fromParam(String param) {
+            if (param == null || param.isBlank()) return ID;
+            for (Sort sort : values()) {
+                if (sort.param.equals(param)) return sort;
+            }
+            throw new IllegalArgumentException("Invalid value for 'sort'. Allowed values: id, updatedAt");
+        }
+    }
+
+    private final Sort sort;
+    private final LocalDateTime updatedAt;
+    private final Long id;
+
+    private TaskCursor(Sort sort, LocalDateTime updatedAt, Long id) {
+        this.sort = sort;
+        this.updatedAt = updatedAt;
+        this.id = id;
+    }
+
+    static TaskCursor after(Sort sort, TaskResponse last) {
+        return new TaskCursor(sort, last.getUpdatedAt(), last.getId());
+    }
+
+    static TaskCursor after(Sort sort, TaskSummaryResponse last) {
+        return new TaskCursor(sort, last.getUpdatedAt(), last.getId());
+    }
+
+    /**
+     * Decodes a cursor produced by {@link #encode()}.
+     *
+     * @return the cursor, or {@code null} if {@code value} is blank (first page)
+     * @throws IllegalArgumentException if the cursor is malformed or was issued for another sort
+     */
+    static TaskCursor decode(Sort sort, String value) {
+        if (value == null || value.isBlank()) return null;
+
+        String raw;
+        try {
+            raw = new String(Base64.getUrlDecoder().decode(value), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException ex) {
+            throw invalidCursor();
+        }
+
+        String prefix = sort.param + ":";
+        if (!raw.startsWith(prefix)) {
+            throw new IllegalArgumentException("Cursor does not match sort '" + sort.param + "'");
+        }
+
+        String key = raw.substring(prefix.length());
+        try {
+            if (sort == Sort.ID) {
+                return new TaskCursor(sort, null, Long.valueOf(key));
+            }
+
+            int sep = key.lastIndexOf(':');
+            return new TaskCursor(sort, LocalDateTime.parse(key.substring(0, sep)), Long.valueOf(key.substring(sep + 1)));
+        } catch (NumberFormatException | DateTimeParseException | IndexOutOfBoundsException ex) {
+            throw invalidCursor();
+        }
+    }
+
+    String encode() {
+        String raw = sort == Sort.ID
+                ? sort.param + ":" + id
+                : sort.param + ":" + updatedAt + ":" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    Long getId() {
+        return id;
+    }
+
+    private static IllegalArgumentException invalidCursor() {
+        return new IllegalArgumentException("Invalid value for 'after' cursor");
+    }
+
+}
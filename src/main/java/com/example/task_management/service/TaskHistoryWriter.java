@@ -0,0 +1,266 @@
+package com.example.task_management.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import com.example.task_management.dto.response.TaskResponse;
+import com.example.task_management.model.TaskStatus;
+import com.example.task_management.model.TaskUpdate;
+import com.example.task_management.repository.TaskPatchedFields;
+import com.example.task_management.repository.TaskUpdateRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+
+/**
+ * Records the field-level history of task updates as {@link TaskUpdate} rows.
+ * <p>
+ * How entries are written depends on {@code task.history.durability}:
+ * <ul>
+ *   <li>{@link Durability#SYNC}: inserted in the updating transaction, so history and change
+ *       commit or roll back together, at the cost of the INSERTs in every update;</li>
+ *   <li>{@link Durability#ASYNC} (default): queued after commit and inserted in batches by a
+ *       background writer; entries still queued are lost only if the process dies. Writes wait
+ *       in {@link #awaitCapacity()} while the queue is full, before their transaction starts, for
+ *       at most {@code task.history.max-wait}, and are then rejected: waiting in the commit callback
+ *       would hold the JDBC connection of the write, which the background writer may need to drain
+ *       the queue. Writes already running when the queue fills up still queue their entries, so it
+ *       may briefly hold more than its capacity;</li>
+ *   <li>{@link Durability#BEST_EFFORT}: like {@code ASYNC}, but entries that do not fit in the
+ *       queue are dropped and counted in {@code task.history.dropped}, so updates never wait.</li>
+ * </ul>
+ * The queue holds {@code task.history.queue-capacity} entries. The writer takes whatever is queued,
+ * up to {@code task.history.batch-size} entries, and inserts it in one transaction with JDBC
+ * batching, so batches grow with the load without delaying entries when idle. The queue is
+ * drained on shutdown.
+ * </p>
+ */
+@Component
+public class TaskHistoryWriter {
+
+    public enum Durability {
+        SYNC,
+        ASYNC,
+        BEST_EFFORT
+    }
+
+    private static final String TITLE = "title";
+    private static final String DESCRIPTION = "description";
+    private static final String STATUS = "status";
+
+    private static final Logger log = LoggerFactory.getLogger(TaskHistoryWriter.class);
+
+    private static final long POLL_MILLIS = 100;
+
+    @Autowired
+    private TaskUpdateRepository taskUpdateRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${task.history.durability:ASYNC}")
+    private Durability durability;
+
+    @Value("${task.history.queue-capacity:10000}")
+    private int queueCapacity;
+
+    @Value("${task.history.batch-size:500}")
+    private int batchSize;
+
+    @Value("${task.history.max-wait:1s}")
+    private Duration maxWait;
+
+    private final Object capacity = new Object();
+    private BlockingQueue<TaskUpdate> queue;
+    private Counter dropped;
+    private Thread writer;
+    private volatile boolean running;
+
+
+    @PostConstruct
+    public void start() {
+        // bounded by awaitCapacity() and by the drop policy, never by blocking the commit callback
+        queue = new LinkedBlockingQueue<>();
+        dropped = Counter.builder("task.history.dropped")
+                         .description("History entries dropped because the queue was full or the write failed")
+                         .register(meterRegistry);
+        Gauge.builder("task.history.queue", queue, BlockingQueue::size)
+             .description("History entries waiting to be written")
+             .register(meterRegistry);
+
+        if (durability != Durability.SYNC) {
+            running = true;
+            writer = new Thread(this::run, "task-history-writer");
+            writer.setDaemon(true);
+            writer.start();
+        }
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        if (writer != null) {
+            writer.join(TimeUnit.SECONDS.toMillis(10));
+        }
+    }
+
+    /**
+     * Records the fields of an update that differ from the previous state; {@code null} new values
+     * mean "unchanged".
+     */
+    public void updated(TaskResponse previous, String title, String description, TaskStatus status) {
+        updated(previous.getId(), previous.getTitle(), previous.getDescription(), previous.getStatus(),
+                title, description, status);
+    }
+
+    /**
+     * Records the fields of a patch that differ from the previous values read for it.
+     *
+     * @throws IllegalArgumentException if the patch replaces the description but it was not read
+     */
+    public void patched(TaskPatchedFields previous, String title, String description, TaskStatus status) {
+        if (description != null && !previous.isDescriptionRead()) {
+            throw new IllegalArgumentException("The previous description of task " + previous.getId() + " was not read");
+        }
+        updated(previous.getId(), previous.getTitle(), previous.getDescription(), previous.getStatus(),
+                title, description, status);
+    }
+
+    private void updated(Long id, String oldTitle, String oldDescription, TaskStatus oldStatus,
+                         String title, String description, TaskStatus status) {
+        LocalDateTime now = LocalDateTime.now();
+        List<TaskUpdate> entries = new ArrayList<>(3);
+        addIfChanged(entries, id, TITLE, oldTitle, title, now);
+        addIfChanged(entries, id, DESCRIPTION, oldDescription, description, now);
+        addIfChanged(entries, id, STATUS, name(oldStatus), name(status), now);
+        record(entries);
+    }
+
+    /**
+     * Waits until the queue has room, in {@link Durability#ASYNC} mode; returns at once otherwise.
+     * <p>
+     * Called before the transaction of a write, so that the wait holds no connection. Inside a transaction
+     * (e.g. a group-commit batch) a full queue rejects the write at once instead.
+     * </p>
+     *
+     * @throws TaskRejectedException if the queue is still full after {@code task.history.max-wait}
+     */
+    public void awaitCapacity() {
+        if (durability != Durability.ASYNC) return;
+
+        long deadline = System.nanoTime()
+                        + (TransactionSynchronizationManager.isActualTransactionActive() ? 0 : maxWait.toNanos());
+        synchronized (capacity) {
+            while (running && queue.size() >= queueCapacity) {
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    throw new TaskRejectedException("Too many pending history entries");
+                }
+                try {
+                    capacity.wait(Math.max(1, Math.min(POLL_MILLIS, TimeUnit.NANOSECONDS.toMillis(remaining))));
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new TaskRejectedException("Interrupted while waiting for the history queue", e);
+                }
+            }
+        }
+    }
+
+    public void transitioned(Collection<Long> ids, TaskStatus from, TaskStatus to) {
+        LocalDateTime now = LocalDateTime.now();
+        List<TaskUpdate> entries = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            addIfChanged(entries, id, STATUS, from.name(), to.name(), now);
+        }
+        record(entries);
+    }
+
+    private void record(List<TaskUpdate> entries) {
+        if (entries.isEmpty()) return;
+
+        if (durability == Durability.SYNC) {
+            taskUpdateRepository.saveAll(entries);
+        } else {
+            TransactionCallbacks.afterCommit(() -> enqueue(entries));
+        }
+    }
+
+    // runs after commit, still holding the connection of the write: it must not block
+    private void enqueue(List<TaskUpdate> entries) {
+        for (TaskUpdate entry : entries) {
+            if (durability == Durability.BEST_EFFORT && queue.size() >= queueCapacity) {
+                dropped.increment();
+                continue;
+            }
+            queue.add(entry);
+        }
+    }
+
+    private void run() {
+        List<TaskUpdate> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                TaskUpdate first = queue.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) continue;
+
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                synchronized (capacity) {
+                    capacity.notifyAll();
+                }
+                write(batch);
+            } catch (InterruptedException e) {
+                running = false;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void write(List<TaskUpdate> batch) {
+        try {
+            transactionTemplate.executeWithoutResult(tx -> taskUpdateRepository.saveAll(batch));
+        } catch (RuntimeException e) {
+            dropped.increment(batch.size());
+            log.error("Could not write {} task history entries", batch.size(), e);
+        }
+    }
+
+    private static void addIfChanged(List<TaskUpdate> entries, Long taskId, String field,
+                                     String oldValue, String newValue, LocalDateTime changedAt) {
+        if (newValue == null || Objects.equals(oldValue, newValue)) return;
+        entries.add(TaskUpdate.builder()
+                              .taskId(taskId)
+                              .field(field)
+                              .oldValue(oldValue)
+                              .newValue(newValue)
+                              .changedAt(changedAt)
+                              .build());
+    }
+
+    private static String name(TaskStatus status) {
+        return status != null ? status.name() : null;
+    }
+
+}
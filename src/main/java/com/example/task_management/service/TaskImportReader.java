@@ -0,0 +1,241 @@
+package com.example.task_management.service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Locale;
+import org.springframework.http.MediaType;
+import com.example.task_management.dto.request.TaskRequest;
+import com.example.task_management.model.TaskStatus;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+
+/**
+ * Incremental reader of task import files.
+ * <p>
+ * Rows are decoded one at a time from the request stream, so memory use does not depend on the
+ * file size. A malformed row is reported with an {@link IllegalArgumentException} and reading
+ * goes on with the next row.
+ * </p>
+ * <ul>
+ *   <li>CSV ({@code text/csv}): a header row naming the {@code title}, {@code description} and
+ *   {@code status} columns, in any order; other columns are ignored. Fields may be quoted, with
+ *   {@code ""} for a quote and line breaks allowed inside quotes. Empty fields are null.</li>
+ *   <li>NDJSON ({@code application/x-ndjson}): one {@link TaskRequest} JSON object per line, blank
+ *   lines are skipped. The output of the export endpoint is accepted as is.</li>
+ * </ul>
+ */
+abstract class TaskImportReader {
+
+    static final MediaType TEXT_CSV = MediaType.parseMediaType("text/csv");
+
+    protected final BufferedReader reader;
+    protected long line;
+    protected long rowLine;
+
+    private TaskImportReader(InputStream in, Charset charset) {
+        this.reader = new BufferedReader(new InputStreamReader(in, charset), 64 * 1024);
+    }
+
+    /**
+     * Opens a reader for the given content type. The CSV header row is read here.
+     *
+     * @throws IllegalArgumentException if the content type is neither CSV nor NDJSON,
+     *         or if the CSV header is missing or has no {@code title} column
+     * @throws IOException if reading the stream fails
+     */
+    static TaskImportReader open(InputStream in, MediaType contentType, ObjectMapper objectMapper) throws IOException {
+        Charset charset = contentType.getCharset() != null ? contentType.getCharset() : StandardCharsets.UTF_8;
+        if (TEXT_CSV.isCompatibleWith(contentType)) {
+            Csv csv = new Csv(in, charset);
+            csv.readHeader();
+            return csv;
+        }
+        if (MediaType.APPLICATION_NDJSON.isCompatibleWith(contentType)) {
+            return new Ndjson(in, charset, objectMapper);
+        }
+        throw new IllegalArgumentException("Unsupported import format: " + contentType);
+    }
+
+    /**
+     * Reads the next row.
+     *
+     * @return the row, or {@code null} at the end of the input
+     * @throws IllegalArgumentException if the row is malformed; the reader is then positioned on the next row
+     * @throws IOException if reading the stream fails
+     */
+    abstract TaskRequest next() throws IOException;
+
+    /**
+     * Returns the line number, starting at 1, on which the row last returned by {@link #next()} starts.
+     */
+    long rowLine() {
+        return rowLine;
+    }
+
+
+    private static final class Ndjson extends TaskImportReader {
+
+        private final ObjectReader objectReader;
+
+        private Ndjson(InputStream in, Charset charset, ObjectMapper objectMapper) {
+            super(in, charset);
+            this.objectReader = objectMapper.readerFor(TaskRequest.class);
+        }
+
+        @Override
+        TaskRequest next() throws IOException {
+            String text;
+            do {
+                text = reader.readLine();
+                if (text == null) return null;
+                rowLine = ++line;
+            } while (text.isBlank());
+
+            TaskRequest request;
+            try {
+                request = objectReader.readValue(text);
+            } catch (JsonProcessingException e) {
+                throw new IllegalArgumentException(e.getOriginalMessage(), e);
+            }
+            if (request == null) {
+                throw new IllegalArgumentException("Row is not a JSON object");
+            }
+            return request;
+        }
+    }
+
+
+    private static final class Csv extends TaskImportReader {
+
+        private final StringBuilder field = new StringBuilder();
+        private final String[] values = new String[3];
+        private int titleColumn = -1;
+        private int descriptionColumn = -1;
+        private int statusColumn = -1;
+        private int lastChar = -2;
+
+        private Csv(InputStream in, Charset charset) {
+            super(in, charset);
+        }
+
+        @Override
+        TaskRequest next() throws IOException {
+            String[] row;
+            do {
+                row = readRecord();
+                if (row == null) return null;
+            } while (row.length == 1 && row[0] == null);
+
+            String status = value(row, statusColumn);
+            return TaskRequest.builder()
+                              .title(value(row, titleColumn))
+                              .description(value(row, descriptionColumn))
+                              .status(status != null ? parseStatus(status) : null)
+                              .build();
+        }
+
+        private void readHeader() throws IOException {
+            String[] header = readRecord();
+            if (header == null) {
+                throw new IllegalArgumentException("CSV header row is missing");
+            }
+            for (int i = 0; i < header.length; i++) {
+                String name = header[i] == null ? "" : header[i].trim().toLowerCase(Locale.ROOT);
+                if (i == 0 && !name.isEmpty() && name.charAt(0) == '\uFEFF') name = name.substring(1);
+                if (name.equals("title")) titleColumn = i;
+                else if (name.equals("description")) descriptionColumn = i;
+                else if (name.equals("status")) statusColumn = i;
+            }
+            if (titleColumn < 0) {
+                throw new IllegalArgumentException("CSV header has no 'title' column");
+            }
+        }
+
+        private static String value(String[] row, int column) {
+            return column >= 0 && column < row.length ? row[column] : null;
+        }
+
+        private static TaskStatus parseStatus(String value) {
+            try {
+                return TaskStatus.valueOf(value.trim().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Invalid status '" + value
+                        + "'. Allowed values: PENDING, IN_PROGRESS, COMPLETED");
+            }
+        }
+
+        /**
+         * Reads one record, or returns {@code null} at the end of the input. An unterminated quote
+         * consumes the rest of the input and is reported as malformed.
+         */
+        private String[] readRecord() throws IOException {
+            int c = read();
+            if (c < 0) return null;
+            rowLine = ++line;
+
+            String[] fields = values;
+            int count = 0;
+            boolean quoted = false;
+            boolean wasQuoted = false;
+            field.setLength(0);
+
+            while (true) {
+                if (quoted) {
+                    if (c < 0) {
+                        throw new IllegalArgumentException("Unterminated quoted field");
+                    }
+                    if (c == '"') {
+                        c = read();
+                        if (c != '"') {
+                            quoted = false;
+                            continue;
+                        }
+                    } else if (c == '\n' || (c == '\r' && !peekNewline())) {
+                        line++;
+                    }
+                    field.append((char) c);
+                } else if (c == ',' || c == '\n' || c == '\r' || c < 0) {
+                    if (count == fields.length) {
+                        fields = Arrays.copyOf(fields, count * 2);
+                    }
+                    fields[count++] = field.length() > 0 || wasQuoted ? field.toString() : null;
+                    field.setLength(0);
+                    wasQuoted = false;
+                    if (c != ',') {
+                        if (c == '\r' && peekNewline()) read();
+                        break;
+                    }
+                } else if (c == '"' && field.length() == 0 && !wasQuoted) {
+                    quoted = true;
+                    wasQuoted = true;
+                } else {
+                    field.append((char) c);
+                }
+                c = read();
+            }
+            return Arrays.copyOf(fields, count);
+        }
+
+        private int read() throws IOException {
+            if (lastChar != -2) {
+                int c = lastChar;
+                lastChar = -2;
+                return c;
+            }
+            return reader.read();
+        }
+
+        private boolean peekNewline() throws IOException {
+            if (lastChar == -2) lastChar = reader.read();
+            return lastChar == '\n';
+        }
+    }
+
+}
@@ -0,0 +1,293 @@
+package com.example.task_management.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import com.example.task_management.config.ReplicaRoutingDataSource;
+import com.example.task_management.dto.response.TaskResponse;
+import com.example.task_management.repository.TaskRepository;
+
+
+/**
+ * In-memory inverted index over task titles and descriptions.
+ * <p>
+ * Text is split on non-alphanumeric characters and lower-cased. Each term maps to the tasks
+ * containing it with their term frequency, title occurrences counting {@value #TITLE_WEIGHT} times.
+ * Terms are kept sorted, so a prefix query is a range scan of the term dictionary.
+ * Results are ranked with BM25.
+ * </p>
+ * <p>
+ * The index is built at startup, before the web server accepts requests, by reading the tasks in
+ * chunks and indexing each chunk in parallel. Afterwards it is maintained incrementally: changes
+ * made inside a transaction are applied only after it commits. Incremental updates are serialized;
+ * searches do not lock and may observe a task being re-indexed.
+ * </p>
+ */
+@Component
+public class TaskSearchIndex implements SmartInitializingSingleton {
+
+    private static final Logger log = LoggerFactory.getLogger(TaskSearchIndex.class);
+
+    private static final Pattern SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final int TITLE_WEIGHT = 2;
+    private static final int REBUILD_CHUNK_SIZE = 10_000;
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    private final ConcurrentNavigableMap<String, Map<Long, Integer>> postings = new ConcurrentSkipListMap<>();
+    private final Map<Long, Document> documents = new ConcurrentHashMap<>();
+    private final LongAdder totalLength = new LongAdder();
+
+	@Autowired
+    private TaskRepository taskRepository;
+
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        rebuild();
+    }
+
+    /**
+     * Indexes every stored task, read from the primary. Must not run concurrently with incremental updates.
+     */
+    public void rebuild() {
+        long start = System.nanoTime();
+        postings.clear();
+        documents.clear();
+        totalLength.reset();
+
+        long afterId = 0;
+        List<TaskResponse> chunk;
+        do {
+            long lastId = afterId;
+            chunk = ReplicaRoutingDataSource.onPrimary(
+                    () -> taskRepository.findDtoAfterOrderById(lastId, PageRequest.of(0, REBUILD_CHUNK_SIZE)));
+            if (chunk.isEmpty()) break;
+
+            chunk.parallelStream().forEach(task -> add(task.getId(), Document.of(task.getTitle(), task.getDescription())));
+            afterId = chunk.get(chunk.size() - 1).getId();
+        } while (chunk.size() == REBUILD_CHUNK_SIZE);
+
+        log.info("Indexed {} tasks ({} terms) in {} ms", documents.size(), postings.size(),
+                 (System.nanoTime() - start) / 1_000_000);
+    }
+
+    /**
+     * Indexes a task, replacing any previous version of it.
+     */
+    public void index(TaskResponse task) {
+        TransactionCallbacks.afterCommit(() -> replace(task.getId(), Document.of(task.getTitle(), task.getDescription())));
+    }
+
+    public void indexAll(Collection<TaskResponse> tasks) {
+        if (tasks.isEmpty()) return;
+        TransactionCallbacks.afterCommit(() -> tasks.forEach(task -> replace(task.getId(), Document.of(task.getTitle(), task.getDescription()))));
+    }
+
+    /**
+     * Re-indexes the given fields of a task; {@code null} fields keep their indexed text.
+     */
+    public void patch(Long id, String title, String description) {
+        if (title == null && description == null) return;
+        TransactionCallbacks.afterCommit(() -> {
+            synchronized (this) {
+                Document previous = documents.get(id);
+                if (previous == null) return;
+                replace(id, new Document(title != null ? frequencies(title) : previous.title,
+                                         description != null ? frequencies(description) : previous.description));
+            }
+        });
+    }
+
+    public void remove(Collection<Long> ids) {
+        if (ids.isEmpty()) return;
+        TransactionCallbacks.afterCommit(() -> {
+            synchronized (this) {
+                ids.forEach(this::removeDocument);
+            }
+        });
+    }
+
+    /**
+     * Returns the IDs of the best matching tasks, best first.
+     * <p>
+     * Every term of the query must match (AND). A term ending with {@code *} matches any indexed
+     * term starting with it.
+     * </p>
+     *
+     * @param query the search terms, separated by spaces
+     * @param limit the maximum number of IDs returned
+     * @return the matching task IDs ranked by relevance, ties broken by ID
+     *
+     * @throws IllegalArgumentException if the query contains no term
+     */
+    public List<Long> search(String query, int limit) {
+        List<Map<String, Map<Long, Integer>>> clauses = parse(query);
+        if (clauses.isEmpty()) {
+            throw new IllegalArgumentException("Query 'q' must contain at least one term");
+        }
+
+        // intersect starting from the most selective clause
+        clauses.sort(Comparator.comparingInt(TaskSearchIndex::postingCount));
+        int documentCount = Math.max(documents.size(), 1);
+        double averageLength = Math.max((double) totalLength.sum() / documentCount, 1);
+
+        Map<Long, Double> scores = null;
+        for (Map<String, Map<Long, Integer>> clause : clauses) {
+            Map<Long, Double> matched = scores;
+            Map<Long, Double> clauseScores = new HashMap<>();
+            for (Map<Long, Integer> termPostings : clause.values()) {
+                double idf = Math.log(1 + (documentCount - termPostings.size() + 0.5) / (termPostings.size() + 0.5));
+                termPostings.forEach((id, frequency) -> {
+                    if (matched != null && !matched.containsKey(id)) return;
+                    Document document = documents.get(id);
+                    if (document == null) return;
+                    double norm = K1 * (1 - B + B * document.length / averageLength);
+                    clauseScores.merge(id, idf * frequency * (K1 + 1) / (frequency + norm), Double::sum);
+                });
+            }
+
+            if (matched != null) {
+                clauseScores.replaceAll((id, score) -> score + matched.get(id));
+            }
+            scores = clauseScores;
+            if (scores.isEmpty()) break;
+        }
+
+        Comparator<Map.Entry<Long, Double>> ranking = Map.Entry.<Long, Double>comparingByValue()
+                                                               .thenComparing(Map.Entry.comparingByKey(Comparator.reverseOrder()));
+        PriorityQueue<Map.Entry<Long, Double>> top = new PriorityQueue<>(ranking);
+        for (Map.Entry<Long, Double> entry : scores.entrySet()) {
+            top.add(entry);
+            if (top.size() > limit) top.poll();
+        }
+
+        List<Long> ids = new ArrayList<>(top.size());
+        while (!top.isEmpty()) {
+            ids.add(top.poll().getKey());
+        }
+        Collections.reverse(ids);
+        return ids;
+    }
+
+    private List<Map<String, Map<Long, Integer>>> parse(String query) {
+        List<Map<String, Map<Long, Integer>>> clauses = new ArrayList<>();
+        if (query == null) return clauses;
+
+        for (String token : query.trim().split("\\s+")) {
+            boolean prefix = token.endsWith("*");
+            String[] terms = tokenize(prefix ? token.substring(0, token.length() - 1) : token);
+            for (int i = 0; i < terms.length; i++) {
+                String term = terms[i];
+                if (prefix && i == terms.length - 1) {
+                    clauses.add(postings.subMap(term, true, term + Character.MAX_VALUE, false));
+                } else {
+                    Map<Long, Integer> termPostings = postings.get(term);
+                    clauses.add(termPostings != null ? Map.of(term, termPostings) : Map.of());
+                }
+            }
+        }
+        return clauses;
+    }
+
+    private static int postingCount(Map<String, Map<Long, Integer>> clause) {
+        int count = 0;
+        for (Map<Long, Integer> termPostings : clause.values()) {
+            count += termPostings.size();
+        }
+        return count;
+    }
+
+    private synchronized void replace(Long id, Document document) {
+        removeDocument(id);
+        add(id, document);
+    }
+
+    private void add(Long id, Document document) {
+        documents.put(id, document);
+        document.weighted().forEach((term, frequency) ->
+                postings.computeIfAbsent(term, t -> new ConcurrentHashMap<>()).put(id, frequency));
+        totalLength.add(document.length);
+    }
+
+    private void removeDocument(Long id) {
+        Document document = documents.remove(id);
+        if (document == null) return;
+
+        for (String term : document.weighted().keySet()) {
+            postings.computeIfPresent(term, (t, termPostings) -> {
+                termPostings.remove(id);
+                return termPostings.isEmpty() ? null : termPostings;
+            });
+        }
+        totalLength.add(-document.length);
+    }
+
+    private static String[] tokenize(String text) {
+        if (text == null) return new String[0];
+        return SEPARATOR.splitAsStream(text.toLowerCase(Locale.ROOT))
+                        .filter(term -> !term.isEmpty())
+                        .toArray(String[]::new);
+    }
+
+    private static Map<String, Integer> frequencies(String text) {
+        Map<String, Integer> frequencies = new HashMap<>();
+        for (String term : tokenize(text)) {
+            frequencies.merge(term, 1, Integer::sum);
+        }
+        return frequencies;
+    }
+
+
+    /**
+     * Term frequencies of one task, per field.
+     */
+    private static final class Document {
+
+        private final Map<String, Integer> title;
+        private final Map<String, Integer> description;
+        private final int length;
+
+        private Document(Map<String, Integer> title, Map<String, Integer> description) {
+            this.title = title;
+            this.description = description;
+            this.length = TITLE_WEIGHT * sum(title) + sum(description);
+        }
+
+        private static Document of(String title, String description) {
+            return new Document(frequencies(title), frequencies(description));
+        }
+
+        private Map<String, Integer> weighted() {
+            Map<String, Integer> weighted = new HashMap<>(description);
+            title.forEach((term, frequency) -> weighted.merge(term, TITLE_WEIGHT * frequency, Integer::sum));
+            return weighted;
+        }
+
+        private static int sum(Map<String, Integer> frequencies) {
+            int sum = 0;
+            for (int frequency : frequencies.values()) {
+                sum += frequency;
+            }
+            return sum;
+        }
+    }
+
+}
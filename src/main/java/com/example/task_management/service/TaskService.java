@@ -1,15 +1,43 @@
 package com.example.task_management.service;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
 import java.util.List;
+import org.springframework.http.MediaType;
 import com.example.task_management.dto.request.TaskRequest;
+import com.example.task_management.dto.request.TaskTransitionRequest;
+import com.example.task_management.dto.response.BulkOperationResponse;
+import com.example.task_management.dto.response.TaskBatchItemResponse;
+import com.example.task_management.dto.response.TaskCursorPageResponse;
+import com.example.task_management.dto.response.TaskHistoryPageResponse;
+import com.example.task_management.dto.response.TaskImportResponse;
 import com.example.task_management.dto.response.TaskResponse;
+import com.example.task_management.dto.response.TaskStatsResponse;
+import com.example.task_management.dto.response.TaskSummaryPageResponse;
+import com.example.task_management.dto.response.TaskSummaryResponse;
 import com.example.task_management.model.TaskStatus;
 
 
 public interface TaskService {
 	TaskResponse getById(Long id);
+	LocalDateTime getVersion(Long id);
 	List<TaskResponse> getDtoList(TaskStatus status, int page, int size);
+	TaskCursorPageResponse getDtoListAfter(TaskStatus status, String after, String sort, int size);
+	List<TaskSummaryResponse> getSummaryList(TaskStatus status, int page, int size);
+	TaskSummaryPageResponse getSummaryListAfter(TaskStatus status, String after, String sort, int size);
+	long exportAll(OutputStream out) throws IOException;
+	TaskStatsResponse getStats();
+	List<TaskResponse> search(String query, int size);
+	TaskHistoryPageResponse getHistory(Long taskId, Long after, int size);
 	TaskResponse create(TaskRequest request);
+	List<TaskBatchItemResponse> createAll(List<TaskRequest> requests);
+	TaskImportResponse importTasks(InputStream in, MediaType contentType) throws IOException;
 	TaskResponse update(Long id, TaskRequest request);
+	void patch(Long id, TaskRequest request);
 	void delete(Long id);
+	BulkOperationResponse deleteByIds(List<Long> ids);
+	BulkOperationResponse deleteMatching(TaskStatus status, LocalDateTime updatedBefore);
+	BulkOperationResponse transition(TaskTransitionRequest request);
 }
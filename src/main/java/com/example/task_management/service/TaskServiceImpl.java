@@ -1,55 +1,177 @@
 package com.example.task_management.service;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
-import java.util.stream.Collectors;
+import java.util.Set;
+import java.util.function.ToIntFunction;
+import java.util.stream.Stream;
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import javax.validation.ConstraintViolation;
+import javax.validation.Validator;
 
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.data.domain.Page;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import com.example.task_management.config.CacheConfig;
+import com.example.task_management.config.MetricsConfig;
+import com.example.task_management.config.ReplicaRoutingDataSource;
+import com.example.task_management.dto.request.TaskTransitionRequest;
+import com.example.task_management.dto.response.BulkOperationResponse;
+import com.example.task_management.dto.response.TaskBatchItemResponse;
+import com.example.task_management.dto.response.TaskCursorPageResponse;
+import com.example.task_management.dto.response.TaskHistoryPageResponse;
+import com.example.task_management.dto.response.TaskImportErrorResponse;
+import com.example.task_management.dto.response.TaskImportResponse;
 import com.example.task_management.dto.response.TaskResponse;
+import com.example.task_management.dto.response.TaskStatsResponse;
+import com.example.task_management.dto.response.TaskSummaryPageResponse;
+import com.example.task_management.dto.response.TaskSummaryResponse;
+import com.example.task_management.dto.response.TaskUpdateResponse;
 import com.example.task_management.dto.request.TaskRequest;
 import com.example.task_management.factory.TaskFactory;
 import com.example.task_management.model.Task;
 import com.example.task_management.model.TaskStatus;
+import com.example.task_management.repository.TaskPatchedFields;
 import com.example.task_management.repository.TaskRepository;
+import com.example.task_management.repository.TaskUpdateRepository;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import io.micrometer.core.annotation.Timed;
 
 
 /**
  * Service implementation for managing {@link Task} entities.
+ * <p>
+ * Every public method is timed as {@value MetricsConfig#SERVICE_TIMER}, tagged by method name.
+ * </p>
  */
 @Service
+@Timed(value = MetricsConfig.SERVICE_TIMER, histogram = true)
 public class TaskServiceImpl implements TaskService {
 
+	private static final int EXPORT_FLUSH_INTERVAL = 1000;
+
 	@Autowired
     private TaskFactory taskFactory;
 
 	@Autowired
     private TaskRepository taskRepository;
 
+	@Autowired
+	private TaskStatusCounters taskStatusCounters;
+
+	@Autowired
+	private TaskSearchIndex taskSearchIndex;
+
+	@Autowired
+	private TaskChangeFeed taskChangeFeed;
+
+	@Autowired
+	private TaskHistoryWriter taskHistoryWriter;
+
+	@Autowired
+	private TaskUpdateRepository taskUpdateRepository;
+
+	@Autowired
+	private Validator validator;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@Autowired
+	private TransactionTemplate transactionTemplate;
+
+	@Autowired
+	private CacheManager cacheManager;
+
+	@PersistenceContext
+	private EntityManager entityManager;
+
+	@Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}")
+	private int batchSize;
+
+	@Value("${task.bulk.chunk-size:1000}")
+	private int bulkChunkSize;
+
+	@Value("${task.batch.max-size:1000}")
+	private int batchMaxSize;
+
+	@Value("${task.import.max-errors:100}")
+	private int maxImportErrors;
+
 
 	/**
      * Retrieves a task by its ID.
      *
+     * <p>The DTO is built directly from the result set, without loading a managed entity,
+     * and is cached in {@link CacheConfig#TASKS_CACHE}. Concurrent misses for the same ID
+     * are loaded only once. Misses are read from the primary even with read replicas: a lagging
+     * copy would otherwise stay cached after the replica caught up.</p>
+     *
      * @param id the unique identifier of the task
      * @return {@link TaskResponse} DTO containing task data
      * @throws NoSuchElementException if no task exists with the given ID
      */
 	@Override
     @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheConfig.TASKS_CACHE, key = "#id", sync = true)
     public TaskResponse getById(Long id) {
-        Task task = taskRepository.findById(id)
-                                  .orElseThrow(() -> new NoSuchElementException("Task not found"));
-        return taskFactory.toDto(task);
+        return ReplicaRoutingDataSource.onPrimary(() -> taskRepository.findDtoById(id))
+                                       .orElseThrow(() -> new NoSuchElementException("Task not found"));
     }
 
+	/**
+	 * Returns the version of a task, i.e. its last update time.
+	 *
+	 * <p>Taken from the cached DTO when present, otherwise read alone from the primary key index,
+	 * so checking whether a client copy is current costs no mapping.</p>
+	 *
+	 * @param id the unique identifier of the task
+	 * @return the {@code updatedAt} of the task
+	 * @throws NoSuchElementException if no task exists with the given ID
+	 */
+	@Override
+	public LocalDateTime getVersion(Long id) {
+	    Cache cache = cacheManager.getCache(CacheConfig.TASKS_CACHE);
+	    TaskResponse cached = cache != null ? cache.get(id, TaskResponse.class) : null;
+	    if (cached != null) {
+	        return cached.getUpdatedAt();
+	    }
+	    return taskRepository.findUpdatedAtById(id)
+	                         .orElseThrow(() -> new NoSuchElementException("Task not found"));
+	}
+
 	/**
 	 * Retrieve a paginated list of tasks, optionally filtered by status.
 	 *
+	 * <p>Pages are read as {@link Slice}s of DTO projections, so no {@code COUNT(*)} query is issued
+	 * and no managed entity is created.</p>
+	 *
 	 * @param status optional filter for {@link TaskStatus}; if {@code null}, all tasks are returned
 	 * @param page   the page number to retrieve (0-based). Default is 0.
 	 * @param size   the number of tasks per page. Default is 20.
@@ -59,17 +181,165 @@ public class TaskServiceImpl implements TaskService {
     @Transactional(readOnly = true)
 	public List<TaskResponse> getDtoList(TaskStatus status, int page, int size) {
 	    Pageable pageable = PageRequest.of(page, size);
-	    Page<Task> tasksPage;
+	    Slice<TaskResponse> tasksPage;
 
 	    if (status != null) {
-	        tasksPage = taskRepository.findByStatus(status, pageable);
+	        tasksPage = taskRepository.findDtoByStatus(status, pageable);
+	    } else {
+	        tasksPage = taskRepository.findDtoBy(pageable);
+	    }
+
+	    return tasksPage.getContent();
+	}
+
+	/**
+	 * Retrieve a page of tasks using keyset (cursor) pagination, optionally filtered by status.
+	 *
+	 * <p>Instead of an OFFSET, each page starts right after the sort key stored in the cursor,
+	 * so every page costs the same index range scan regardless of its depth.</p>
+	 *
+	 * @param status optional filter for {@link TaskStatus}; if {@code null}, all tasks are returned
+	 * @param after  opaque cursor returned with the previous page; blank for the first page
+	 * @param sort   sort key, {@code id} (default) or {@code updatedAt}
+	 * @param size   the number of tasks per page
+	 * @return the tasks of the page and the cursor of the next page, {@code null} on the last page
+	 *
+	 * @throws IllegalArgumentException if the cursor or the sort key is invalid
+	 */
+	@Override
+    @Transactional(readOnly = true)
+	public TaskCursorPageResponse getDtoListAfter(TaskStatus status, String after, String sort, int size) {
+	    TaskCursor.Sort order = TaskCursor.Sort.fromParam(sort);
+	    TaskCursor cursor = TaskCursor.decode(order, after);
+	    // one extra row tells whether a next page exists
+	    Pageable limit = PageRequest.of(0, size + 1);
+	    List<TaskResponse> tasks;
+
+	    if (order == TaskCursor.Sort.ID) {
+	        if (cursor == null) {
+	            tasks = status != null
+	                    ? taskRepository.findDtoByStatusOrderById(status, limit)
+	                    : taskRepository.findDtoOrderById(limit);
+	        } else {
+	            tasks = status != null
+	                    ? taskRepository.findDtoByStatusAfterOrderById(status, cursor.getId(), limit)
+	                    : taskRepository.findDtoAfterOrderById(cursor.getId(), limit);
+	        }
 	    } else {
-	        tasksPage = taskRepository.findAll(pageable);
+	        if (cursor == null) {
+	            tasks = status != null
+	                    ? taskRepository.findDtoByStatusOrderByUpdatedAt(status, limit)
+	                    : taskRepository.findDtoOrderByUpdatedAt(limit);
+	        } else {
+	            tasks = status != null
+	                    ? taskRepository.findDtoByStatusAfterOrderByUpdatedAt(status, cursor.getUpdatedAt(), cursor.getId(), limit)
+	                    : taskRepository.findDtoAfterOrderByUpdatedAt(cursor.getUpdatedAt(), cursor.getId(), limit);
+	        }
+	    }
+
+	    String nextCursor = null;
+	    if (tasks.size() > size) {
+	        tasks = tasks.subList(0, size);
+	        nextCursor = TaskCursor.after(order, tasks.get(size - 1)).encode();
+	    }
+
+	    return TaskCursorPageResponse.builder()
+	                                 .tasks(tasks)
+	                                 .nextCursor(nextCursor)
+	                                 .build();
+	}
+
+	/**
+	 * Retrieve a page of task summaries, optionally filtered by status.
+	 *
+	 * <p>Only the summary columns are selected, so the {@code DESCRIPTION} of the tasks is neither
+	 * read from the database nor serialized. Pages are ordered by ID.</p>
+	 *
+	 * @param status optional filter for {@link TaskStatus}; if {@code null}, all tasks are returned
+	 * @param page   the page number to retrieve (0-based)
+	 * @param size   the number of tasks per page
+	 * @return the summaries of the tasks in the requested page
+	 */
+	@Override
+    @Transactional(readOnly = true)
+	public List<TaskSummaryResponse> getSummaryList(TaskStatus status, int page, int size) {
+	    return taskRepository.findSummaries(status, false, null, null, Math.multiplyExact(page, size), size);
+	}
+
+	/**
+	 * Retrieve a page of task summaries using keyset (cursor) pagination, optionally filtered by status.
+	 *
+	 * <p>Cursors are those of {@link #getDtoListAfter}, and can be used with either view.</p>
+	 *
+	 * @param status optional filter for {@link TaskStatus}; if {@code null}, all tasks are returned
+	 * @param after  opaque cursor returned with the previous page; blank for the first page
+	 * @param sort   sort key, {@code id} (default) or {@code updatedAt}
+	 * @param size   the number of tasks per page
+	 * @return the summaries of the page and the cursor of the next page, {@code null} on the last page
+	 *
+	 * @throws IllegalArgumentException if the cursor or the sort key is invalid
+	 */
+	@Override
+    @Transactional(readOnly = true)
+	public TaskSummaryPageResponse getSummaryListAfter(TaskStatus status, String after, String sort, int size) {
+	    TaskCursor.Sort order = TaskCursor.Sort.fromParam(sort);
+	    TaskCursor cursor = TaskCursor.decode(order, after);
+	    // one extra row tells whether a next page exists
+	    List<TaskSummaryResponse> tasks = taskRepository.findSummaries(
+	            status, order == TaskCursor.Sort.UPDATED_AT,
+	            cursor != null ? cursor.getUpdatedAt() : null,
+	            cursor != null ? cursor.getId() : null,
+	            0, size + 1);
+
+	    String nextCursor = null;
+	    if (tasks.size() > size) {
+	        tasks = tasks.subList(0, size);
+	        nextCursor = TaskCursor.after(order, tasks.get(size - 1)).encode();
+	    }
+
+	    return TaskSummaryPageResponse.builder()
+	                                  .tasks(tasks)
+	                                  .nextCursor(nextCursor)
+	                                  .build();
+	}
+
+	/**
+	 * Writes every task as newline-delimited JSON, ordered by ID.
+	 *
+	 * <p>Rows are read through a forward-only cursor and each entity is detached once written,
+	 * so memory use does not grow with the number of tasks. Output is flushed every
+	 * {@value #EXPORT_FLUSH_INTERVAL} tasks rather than after each one.</p>
+	 *
+	 * @param out the stream to write to; it is flushed but not closed
+	 * @return the number of tasks written
+	 * @throws IOException if writing to {@code out} fails
+	 */
+	@Override
+    @Transactional(readOnly = true)
+	public long exportAll(OutputStream out) throws IOException {
+	    long count = 0;
+	    ObjectWriter writer = objectMapper.writerFor(TaskResponse.class)
+	                                      .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+
+	    try (Stream<Task> tasks = taskRepository.streamAllOrderById();
+	         JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+
+	        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+	        // each line ends with the '\n' written below, without the default space before the next value
+	        generator.setRootValueSeparator(null);
+
+	        for (Task task : (Iterable<Task>) tasks::iterator) {
+	            writer.writeValue(generator, taskFactory.toDto(task));
+	            generator.writeRaw('\n');
+	            entityManager.detach(task);
+
+	            if (++count % EXPORT_FLUSH_INTERVAL == 0) {
+	                generator.flush();
+	            }
+	        }
 	    }
 
-	    return tasksPage.stream()
-	                    .map(taskFactory::toDto)
-	                    .collect(Collectors.toList());
+	    return count;
 	}
 
 	/**
@@ -85,50 +355,501 @@ public class TaskServiceImpl implements TaskService {
     public TaskResponse create(TaskRequest request) {
     	Task task = taskFactory.toEntity(request);
     	Task saved = taskRepository.save(task);
-        return taskFactory.toDto(saved);
+    	taskStatusCounters.add(saved.getStatus(), 1);
+    	TaskResponse response = taskFactory.toDto(saved);
+    	taskSearchIndex.index(response);
+    	taskChangeFeed.created(List.of(response));
+        return response;
+    }
+
+	/**
+     * Creates many tasks in a single transaction.
+     *
+     * <p>Each request is validated on its own; invalid items are reported and skipped
+     * while the valid ones are inserted. The persistence context is flushed and cleared
+     * every {@code batchSize} entities so Hibernate sends the INSERTs as JDBC batches
+     * and memory stays bounded for large payloads.</p>
+     *
+     * @param requests the DTOs of the tasks to create, at most {@code task.batch.max-size}
+     * @return one {@link TaskBatchItemResponse} per request, in request order
+     *
+     * @throws IllegalArgumentException if there is no request or more than {@code task.batch.max-size}
+     */
+	@Override
+    @Transactional(propagation = Propagation.REQUIRED)
+    public List<TaskBatchItemResponse> createAll(List<TaskRequest> requests) {
+        if (requests == null || requests.isEmpty()) {
+            throw new IllegalArgumentException("At least one task is required");
+        }
+        if (requests.size() > batchMaxSize) {
+            throw new IllegalArgumentException("At most " + batchMaxSize + " tasks can be created at once");
+        }
+
+        List<TaskBatchItemResponse> results = new ArrayList<>(requests.size());
+        List<TaskResponse> indexed = new ArrayList<>(requests.size());
+        Map<TaskStatus, Long> created = new EnumMap<>(TaskStatus.class);
+        int pending = 0;
+
+        for (int i = 0; i < requests.size(); i++) {
+            TaskRequest request = requests.get(i);
+            Map<String, String> errors = validate(request);
+
+            if (!errors.isEmpty()) {
+                results.add(TaskBatchItemResponse.builder()
+                                                 .index(i)
+                                                 .status(HttpStatus.BAD_REQUEST.value())
+                                                 .errors(errors)
+                                                 .build());
+                continue;
+            }
+
+            Task saved = taskRepository.save(taskFactory.toEntity(request));
+            TaskResponse response = taskFactory.toDto(saved);
+            created.merge(saved.getStatus(), 1L, Long::sum);
+            indexed.add(response);
+            results.add(TaskBatchItemResponse.builder()
+                                             .index(i)
+                                             .status(HttpStatus.CREATED.value())
+                                             .task(response)
+                                             .build());
+
+            if (++pending == batchSize) {
+                entityManager.flush();
+                entityManager.clear();
+                pending = 0;
+            }
+        }
+
+        created.forEach(taskStatusCounters::add);
+        taskSearchIndex.indexAll(indexed);
+        taskChangeFeed.created(indexed);
+        return results;
     }
 
+	/**
+	 * Imports tasks from a CSV or NDJSON stream.
+	 *
+	 * <p>Rows are parsed one at a time from the stream (see {@link TaskImportReader}) and validated
+	 * like {@link #createAll(List)}. Valid rows are collected in chunks of {@code task.bulk.chunk-size},
+	 * each inserted in its own transaction and flushed and cleared every {@code batchSize} entities,
+	 * so neither the body nor the imported tasks are held in memory and no transaction stays open
+	 * while the client is uploading. Chunks committed before a read failure are kept.</p>
+	 *
+	 * <p>Malformed and invalid rows are skipped; the first {@code task.import.max-errors} of them
+	 * are reported with the line they start on.</p>
+	 *
+	 * @param in          the request body
+	 * @param contentType {@code text/csv} or {@code application/x-ndjson}, with an optional charset
+	 * @return the numbers of rows read, imported and rejected, the row errors and the throughput
+	 * @throws IllegalArgumentException if the format is not supported or the CSV header is invalid
+	 * @throws IOException if reading the stream fails
+	 */
+	@Override
+	public TaskImportResponse importTasks(InputStream in, MediaType contentType) throws IOException {
+	    long start = System.nanoTime();
+	    TaskImportReader reader = TaskImportReader.open(in, contentType, objectMapper);
+	    List<TaskRequest> chunk = new ArrayList<>(bulkChunkSize);
+	    List<TaskImportErrorResponse> errors = new ArrayList<>();
+	    long rows = 0;
+	    long imported = 0;
+	    long failed = 0;
+
+	    while (true) {
+	        TaskRequest request;
+	        Map<String, String> rowErrors;
+	        try {
+	            request = reader.next();
+	            if (request == null) break;
+	            rowErrors = validate(request);
+	        } catch (IllegalArgumentException e) {
+	            request = null;
+	            rowErrors = Map.of("row", e.getMessage() != null ? e.getMessage() : "Malformed row");
+	        }
+	        rows++;
+
+	        if (!rowErrors.isEmpty()) {
+	            if (++failed <= maxImportErrors) {
+	                errors.add(new TaskImportErrorResponse(reader.rowLine(), rowErrors));
+	            }
+	            continue;
+	        }
+
+	        chunk.add(request);
+	        if (chunk.size() == bulkChunkSize) {
+	            imported += transactionTemplate.execute(tx -> importChunk(chunk));
+	            chunk.clear();
+	        }
+	    }
+	    if (!chunk.isEmpty()) {
+	        imported += transactionTemplate.execute(tx -> importChunk(chunk));
+	    }
+
+	    long elapsedNanos = Math.max(System.nanoTime() - start, 1);
+	    return TaskImportResponse.builder()
+	                             .rows(rows)
+	                             .imported(imported)
+	                             .failed(failed)
+	                             .errors(errors)
+	                             .errorsTruncated(failed > errors.size())
+	                             .elapsedMillis(elapsedNanos / 1_000_000)
+	                             .rowsPerSecond(rows * 1_000_000_000 / elapsedNanos)
+	                             .build();
+	}
+
 	/**
      * Updates an existing task by ID.
      *
-     * <p>Only the fields present in the request are updated; null values are ignored.</p>
+     * <p>Only the fields present in the request are updated; null values are ignored. The task is
+     * loaded with a row lock, so that concurrent updates are serialized before their previous values
+     * are read for the history and the per-status counters.</p>
      *
      * @param id the ID of the existing task
      * @param request the DTO with updated fields
      * @return updated {@link TaskResponse}
      *
      * @throws NoSuchElementException if the task does not exist
+     * @throws org.springframework.core.task.TaskRejectedException if the history queue stays full
      */
 	@Override
-    @Transactional(propagation = Propagation.REQUIRED)
+    @CacheEvict(cacheNames = CacheConfig.TASKS_CACHE, key = "#id")
     public TaskResponse update(Long id, TaskRequest request) {
-        Task existing = taskRepository.findById(id)
-                                      .orElseThrow(() -> new NoSuchElementException("Task not found"));
+        // waits for room in the history queue before the transaction takes a connection
+        taskHistoryWriter.awaitCapacity();
+        return transactionTemplate.execute(tx -> doUpdate(id, request));
+    }
 
-        existing.setTitle(request.getTitle());
-        if (request.getDescription() != null) 
-        	existing.setDescription(request.getDescription());
-        if (request.getStatus() != null) 
-        	existing.setStatus(request.getStatus());
+	/**
+     * Partially updates an existing task by ID.
+     *
+     * <p>Only the non-null fields of the request are written, with a single targeted
+     * {@code UPDATE} that also sets {@code updatedAt}; no managed entity is loaded. The row is
+     * locked first, reading only its current title and status, and the description when it is
+     * replaced: concurrent patches are serialized, so the field-level history and the per-status
+     * counters record the transitions that actually happened.</p>
+     *
+     * @param id the ID of the existing task
+     * @param request the DTO with the fields to change
+     *
+     * @throws IllegalArgumentException if no field is given or the title is blank
+     * @throws NoSuchElementException if the task does not exist
+     * @throws org.springframework.core.task.TaskRejectedException if the history queue stays full
+     */
+	@Override
+    @CacheEvict(cacheNames = CacheConfig.TASKS_CACHE, key = "#id")
+    public void patch(Long id, TaskRequest request) {
+        if (request.getTitle() == null && request.getDescription() == null && request.getStatus() == null) {
+            throw new IllegalArgumentException("At least one of 'title', 'description' or 'status' is required");
+        }
+        if (request.getTitle() != null && request.getTitle().isBlank()) {
+            throw new IllegalArgumentException("Title is required");
+        }
 
-        Task updated = taskRepository.save(existing);
-        return taskFactory.toDto(updated);
+        taskHistoryWriter.awaitCapacity();
+        transactionTemplate.execute(tx -> {
+            doPatch(id, request);
+            return null;
+        });
     }
 
 	/**
      * Deletes a task by ID.
      *
+     * <p>The counters, search index and change feed are only updated when the delete statement removed
+     * the row, so that of two concurrent deletes of the same task only one succeeds.</p>
+     *
      * @param id ID of the task to delete
      *
      * @throws NoSuchElementException if the task does not exist
      */
 	@Override
     @Transactional(propagation = Propagation.REQUIRED)
+    @CacheEvict(cacheNames = CacheConfig.TASKS_CACHE, key = "#id")
     public void delete(Long id) {
-        if (!taskRepository.existsById(id)) {
+        TaskStatus status = taskRepository.findStatusById(id)
+                                          .orElseThrow(() -> new NoSuchElementException("Task not found"));
+        if (taskRepository.deleteByIds(List.of(id)) == 0) {
             throw new NoSuchElementException("Task not found");
         }
-        taskRepository.deleteById(id);
+        taskStatusCounters.add(status, -1);
+        taskSearchIndex.remove(List.of(id));
+        taskChangeFeed.deleted(List.of(id));
     }
 
+	/**
+	 * Deletes the tasks with the given IDs.
+	 *
+	 * <p>IDs are processed in chunks of {@code task.bulk.chunk-size}, each deleted by a single
+	 * statement in its own transaction, which also evicts the deleted tasks from the cache once it
+	 * commits. Unknown IDs are ignored.</p>
+	 *
+	 * @param ids the IDs of the tasks to delete
+	 * @return the number of deleted tasks
+	 */
+	@Override
+	public BulkOperationResponse deleteByIds(List<Long> ids) {
+	    long affected = 0;
+	    for (int from = 0; from < ids.size(); from += bulkChunkSize) {
+	        List<Long> chunk = ids.subList(from, Math.min(from + bulkChunkSize, ids.size()));
+	        affected += transactionTemplate.execute(tx -> deleteChunk(chunk, null, null));
+	    }
+	    return new BulkOperationResponse(affected);
+	}
+
+	/**
+	 * Deletes the tasks matching the given filters.
+	 *
+	 * <p>Matching IDs are selected by keyset in chunks of {@code task.bulk.chunk-size}, each chunk
+	 * being deleted by a single statement in its own transaction. The rows of a chunk are locked and
+	 * filtered again first, so tasks changed since they were selected are kept; the deleted tasks
+	 * are evicted from the cache when their chunk commits.</p>
+	 *
+	 * @param status        the status of the tasks to delete, or {@code null} for any status
+	 * @param updatedBefore only tasks last updated before this time are deleted, or {@code null} for no bound
+	 * @return the number of deleted tasks
+	 *
+	 * @throws IllegalArgumentException if both filters are missing
+	 */
+	@Override
+	public BulkOperationResponse deleteMatching(TaskStatus status, LocalDateTime updatedBefore) {
+	    if (status == null && updatedBefore == null) {
+	        throw new IllegalArgumentException("One of 'ids', 'status' or 'updatedBefore' is required");
+	    }
+	    return new BulkOperationResponse(inChunks(status, updatedBefore,
+	                                              chunk -> deleteChunk(chunk, status, updatedBefore)));
+	}
+
+	/**
+	 * Moves every task in the {@code from} status, optionally last updated before a given time,
+	 * to the {@code to} status.
+	 *
+	 * <p>Matching IDs are selected by keyset in chunks of {@code task.bulk.chunk-size}, each chunk
+	 * being updated by a single statement in its own transaction. As for bulk deletes, the rows of a
+	 * chunk are locked and filtered again first, and the transitioned tasks are evicted from the
+	 * cache when their chunk commits.</p>
+	 *
+	 * @param request the source and target statuses and the optional time bound
+	 * @return the number of transitioned tasks
+	 */
+	@Override
+	public BulkOperationResponse transition(TaskTransitionRequest request) {
+	    if (request.getFrom() == request.getTo()) {
+	        return new BulkOperationResponse(0);
+	    }
+
+	    long affected = inChunks(request.getFrom(), request.getUpdatedBefore(), chunk -> {
+	        // locks the rows still matching, so history and events name exactly the updated tasks
+	        List<Long> ids = new ArrayList<>(
+	                taskRepository.lockStatusesById(chunk, request.getFrom(), request.getUpdatedBefore()).keySet());
+	        if (ids.isEmpty()) return 0;
+
+	        int updated = taskRepository.transitionByIds(ids, request.getFrom(), request.getTo(), LocalDateTime.now());
+	        taskStatusCounters.add(request.getFrom(), -updated);
+	        taskStatusCounters.add(request.getTo(), updated);
+	        taskHistoryWriter.transitioned(ids, request.getFrom(), request.getTo());
+	        taskChangeFeed.updated(ids);
+	        evict(ids);
+	        return updated;
+	    });
+	    return new BulkOperationResponse(affected);
+	}
+
+	/**
+	 * Returns the number of tasks per status.
+	 *
+	 * <p>Served from the in-memory {@link TaskStatusCounters}, without querying the database.</p>
+	 *
+	 * @return the total number of tasks and the count for each {@link TaskStatus}
+	 */
+	@Override
+	public TaskStatsResponse getStats() {
+	    Map<TaskStatus, Long> byStatus = taskStatusCounters.snapshot();
+	    long total = byStatus.values().stream().mapToLong(Long::longValue).sum();
+	    return TaskStatsResponse.builder()
+	                            .total(total)
+	                            .byStatus(byStatus)
+	                            .build();
+	}
+
+	/**
+	 * Full-text search over task titles and descriptions.
+	 *
+	 * <p>Matching IDs are ranked by the in-memory {@link TaskSearchIndex}; only the tasks of the
+	 * returned page are then read, with a single query.</p>
+	 *
+	 * @param query the search terms; all must match, a trailing {@code *} makes a term a prefix
+	 * @param size  the maximum number of tasks returned
+	 * @return the matching tasks, most relevant first
+	 *
+	 * @throws IllegalArgumentException if the query contains no term
+	 */
+	@Override
+    @Transactional(readOnly = true)
+	public List<TaskResponse> search(String query, int size) {
+	    List<Long> ids = taskSearchIndex.search(query, size);
+	    if (ids.isEmpty()) {
+	        return List.of();
+	    }
+
+	    Map<Long, TaskResponse> found = new HashMap<>();
+	    for (TaskResponse task : taskRepository.findDtoByIdIn(ids)) {
+	        found.put(task.getId(), task);
+	    }
+
+	    List<TaskResponse> ranked = new ArrayList<>(found.size());
+	    for (Long id : ids) {
+	        TaskResponse task = found.get(id);
+	        if (task != null) ranked.add(task);
+	    }
+	    return ranked;
+	}
+
+	/**
+	 * Returns the change history of a task, newest first, using keyset pagination.
+	 *
+	 * <p>Entries are written asynchronously by default (see {@link TaskHistoryWriter}), so the
+	 * latest update may appear shortly after it committed. History outlives deleted tasks.</p>
+	 *
+	 * @param taskId the ID of the task
+	 * @param after  the ID of the last entry of the previous page, or {@code null} for the first page
+	 * @param size   the number of entries per page
+	 * @return the entries of the page and the cursor of the next page, {@code null} on the last page
+	 */
+	@Override
+    @Transactional(readOnly = true)
+	public TaskHistoryPageResponse getHistory(Long taskId, Long after, int size) {
+	    // one extra row tells whether a next page exists
+	    Pageable limit = PageRequest.of(0, size + 1);
+	    List<TaskUpdateResponse> updates = after == null
+	            ? taskUpdateRepository.findDtoByTaskId(taskId, limit)
+	            : taskUpdateRepository.findDtoByTaskIdBefore(taskId, after, limit);
+
+	    Long nextCursor = null;
+	    if (updates.size() > size) {
+	        updates = updates.subList(0, size);
+	        nextCursor = updates.get(size - 1).getId();
+	    }
+
+	    return TaskHistoryPageResponse.builder()
+	                                  .updates(updates)
+	                                  .nextCursor(nextCursor)
+	                                  .build();
+	}
+
+	private TaskResponse doUpdate(Long id, TaskRequest request) {
+	    Task existing = taskRepository.findByIdForUpdate(id)
+	                                  .orElseThrow(() -> new NoSuchElementException("Task not found"));
+
+	    TaskResponse previous = taskFactory.toDto(existing);
+	    TaskStatus previousStatus = existing.getStatus();
+	    existing.setTitle(request.getTitle());
+	    if (request.getDescription() != null) 
+	    	existing.setDescription(request.getDescription());
+	    if (request.getStatus() != null) 
+	    	existing.setStatus(request.getStatus());
+
+	    // flushed so that @PreUpdate has set updatedAt before the event and the index get the DTO
+	    Task updated = taskRepository.saveAndFlush(existing);
+	    taskStatusCounters.move(previousStatus, updated.getStatus());
+	    taskHistoryWriter.updated(previous, request.getTitle(), request.getDescription(), request.getStatus());
+	    TaskResponse response = taskFactory.toDto(updated);
+	    taskSearchIndex.index(response);
+	    taskChangeFeed.updated(response);
+	    return response;
+	}
+
+	private void doPatch(Long id, TaskRequest request) {
+	    TaskPatchedFields previous = taskRepository.findPatchedFieldsById(id, request.getDescription() != null)
+	                                               .orElseThrow(() -> new NoSuchElementException("Task not found"));
+
+	    int updated = taskRepository.patchById(id, request.getTitle(), request.getDescription(),
+	                                           request.getStatus(), LocalDateTime.now());
+	    if (updated == 0) {
+	        throw new NoSuchElementException("Task not found");
+	    }
+
+	    taskStatusCounters.move(previousStatus(previous, request), request.getStatus());
+	    taskHistoryWriter.patched(previous, request.getTitle(), request.getDescription(), request.getStatus());
+	    taskSearchIndex.patch(id, request.getTitle(), request.getDescription());
+	    taskChangeFeed.updated(List.of(id));
+	}
+
+	private static TaskStatus previousStatus(TaskPatchedFields previous, TaskRequest request) {
+	    return request.getStatus() != null ? previous.getStatus() : null;
+	}
+
+	private Map<String, String> validate(TaskRequest request) {
+        Map<String, String> errors = new LinkedHashMap<>();
+        if (request == null) {
+            errors.put("request", "Task is required");
+            return errors;
+        }
+
+        Set<ConstraintViolation<TaskRequest>> violations = validator.validate(request);
+        violations.forEach(v -> errors.put(v.getPropertyPath().toString(), v.getMessage()));
+        return errors;
+    }
+
+	private int importChunk(List<TaskRequest> requests) {
+	    List<TaskResponse> created = new ArrayList<>(requests.size());
+	    Map<TaskStatus, Long> counts = new EnumMap<>(TaskStatus.class);
+
+	    for (TaskRequest request : requests) {
+	        Task saved = taskRepository.save(taskFactory.toEntity(request));
+	        created.add(taskFactory.toDto(saved));
+	        counts.merge(saved.getStatus(), 1L, Long::sum);
+
+	        if (created.size() % batchSize == 0) {
+	            entityManager.flush();
+	            entityManager.clear();
+	        }
+	    }
+
+	    counts.forEach(taskStatusCounters::add);
+	    taskSearchIndex.indexAll(created);
+	    taskChangeFeed.created(created);
+	    return created.size();
+	}
+
+	private int deleteChunk(List<Long> candidates, TaskStatus status, LocalDateTime updatedBefore) {
+	    // counters, index and events follow the locked rows, not the candidates selected without locks
+	    Map<Long, TaskStatus> locked = taskRepository.lockStatusesById(candidates, status, updatedBefore);
+	    if (locked.isEmpty()) return 0;
+
+	    List<Long> ids = new ArrayList<>(locked.keySet());
+	    Map<TaskStatus, Long> counts = new EnumMap<>(TaskStatus.class);
+	    locked.values().forEach(s -> counts.merge(s, 1L, Long::sum));
+
+	    int deleted = taskRepository.deleteByIds(ids);
+	    counts.forEach((s, count) -> taskStatusCounters.add(s, -count));
+	    taskSearchIndex.remove(ids);
+	    taskChangeFeed.deleted(ids);
+	    evict(ids);
+	    return deleted;
+	}
+
+	// the cache is transaction aware: the entries are evicted once the current transaction commits
+	private void evict(List<Long> ids) {
+	    Cache cache = cacheManager.getCache(CacheConfig.TASKS_CACHE);
+	    if (cache != null) ids.forEach(cache::evict);
+	}
+
+	private long inChunks(TaskStatus status, LocalDateTime updatedBefore, ToIntFunction<List<Long>> action) {
+	    long affected = 0;
+	    long afterId = 0;
+	    List<Long> ids;
+
+	    do {
+	        ids = taskRepository.findIdChunk(status, updatedBefore, afterId, bulkChunkSize);
+	        if (ids.isEmpty()) break;
+
+	        List<Long> chunk = ids;
+	        // between chunks no connection is held: wait here for the history of the previous ones
+	        taskHistoryWriter.awaitCapacity();
+	        affected += transactionTemplate.execute(tx -> action.applyAsInt(chunk));
+	        afterId = ids.get(ids.size() - 1);
+	    } while (ids.size() == bulkChunkSize);
+
+	    return affected;
+	}
+
 }
@@ -0,0 +1,359 @@
+package com.example.task_management.service;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import javax.persistence.EntityManagerFactory;
+import javax.sql.DataSource;
+import org.hibernate.SessionFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import com.example.task_management.config.ReplicaRoutingDataSource;
+import com.example.task_management.model.Task;
+import com.example.task_management.model.TaskStatus;
+import com.example.task_management.repository.TaskRepository;
+
+
+/**
+ * Binary snapshots of the {@code TASKS} table, so that the in-memory database survives restarts.
+ * <p>
+ * When {@code task.snapshot.path} is set, the table is restored from that file at startup, before the
+ * search index and the status counters are built, and written back every {@code task.snapshot.interval}
+ * and on shutdown. A snapshot is streamed from a forward-only JDBC cursor into a temporary file that
+ * then replaces the previous snapshot, so a crash while writing leaves the last complete one in place.
+ * Restoring reads the file through a memory mapping and inserts the rows with JDBC batches of
+ * {@code task.snapshot.batch-size}, one transaction per batch; it is skipped if the table is not empty,
+ * and the table is emptied again if it fails.
+ * </p>
+ * <p>
+ * Format (version {@value #VERSION}), big-endian, rows in ascending ID order:
+ * <pre>
+ * header   int magic "TSNP", byte version
+ * row      varlong id - previous id (&ge; 1), varint title length, title UTF-8,
+ *          varint description length + 1 (0 = null), description UTF-8, byte status ordinal,
+ *          varlong createdAt (epoch microseconds, UTC), zigzag varlong updatedAt - createdAt
+ * end      byte 0
+ * trailer  long row count, int CRC32 of everything before the trailer
+ * </pre>
+ * A single mapping limits a snapshot to 2 GB.
+ * </p>
+ */
+@Component
+public class TaskSnapshotStore {
+
+    private static final Logger log = LoggerFactory.getLogger(TaskSnapshotStore.class);
+
+    private static final int MAGIC = 0x54534E50;
+    private static final byte VERSION = 1;
+    private static final int TRAILER_SIZE = Long.BYTES + Integer.BYTES;
+    private static final int FETCH_SIZE = 1000;
+    // TASKS_SEQ is read by Hibernate's pooled optimizer, which hands out the allocationSize IDs below each value
+    private static final int SEQUENCE_ALLOCATION_SIZE = 50;
+
+    private static final String SELECT_TASKS =
+            "select ID, TITLE, DESCRIPTION, STATUS, CREATED_AT, UPDATED_AT from TASKS order by ID";
+    private static final String INSERT_TASK =
+            "insert into TASKS (ID, TITLE, DESCRIPTION, STATUS, CREATED_AT, UPDATED_AT) values (?, ?, ?, ?, ?, ?)";
+
+    private static final TaskStatus[] STATUSES = TaskStatus.values();
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    // the schema is created by the entity manager factory behind the repositories
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Value("${task.snapshot.path:}")
+    private String path;
+
+    @Value("${task.snapshot.batch-size:1000}")
+    private int batchSize;
+
+
+    public TaskSnapshotStore(DataSource dataSource) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(FETCH_SIZE);
+    }
+
+    @PostConstruct
+    public void restoreOnStartup() throws IOException {
+        if (path.isBlank()) return;
+
+        Path file = Path.of(path);
+        if (!Files.exists(file)) {
+            log.info("No task snapshot at {}, starting empty", file);
+            return;
+        }
+        if (ReplicaRoutingDataSource.onPrimary(taskRepository::count) > 0) {
+            log.warn("Tasks already present, not restoring the snapshot at {}", file);
+            return;
+        }
+        restore(file);
+    }
+
+    @Scheduled(fixedDelayString = "${task.snapshot.interval:PT5M}",
+               initialDelayString = "${task.snapshot.interval:PT5M}")
+    public void snapshotPeriodically() throws IOException {
+        if (path.isBlank()) return;
+        write(Path.of(path));
+    }
+
+    @PreDestroy
+    public void snapshotOnShutdown() throws IOException {
+        if (path.isBlank()) return;
+        write(Path.of(path));
+    }
+
+    /**
+     * Writes every task to {@code file}, replacing it atomically.
+     *
+     * @return the number of tasks written
+     */
+    public synchronized long write(Path file) throws IOException {
+        long start = System.nanoTime();
+        Path directory = file.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+        Path temporary = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+
+        long count;
+        try {
+            count = writeTo(temporary);
+            Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temporary);
+        }
+
+        log.info("Wrote {} tasks to snapshot {} ({} bytes) in {} ms", count, file, Files.size(file),
+                 (System.nanoTime() - start) / 1_000_000);
+        return count;
+    }
+
+    /**
+     * Inserts every task of the snapshot {@code file} into the (empty) table, then moves
+     * {@code TASKS_SEQ} past the restored IDs. The file is verified against its checksum first.
+     *
+     * @return the number of tasks restored
+     * @throws IllegalStateException if the file is not a valid snapshot
+     */
+    public synchronized long restore(Path file) throws IOException {
+        long start = System.nanoTime();
+        long count;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IllegalStateException("Snapshot " + file + " is larger than 2 GB");
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            try {
+                count = insertAll(file, buffer);
+            } catch (RuntimeException e) {
+                // the table was empty: leave it so rather than half restored
+                jdbcTemplate.update("delete from TASKS");
+                throw e;
+            } finally {
+                evictSecondLevelCache();
+            }
+        }
+
+        log.info("Restored {} tasks from snapshot {} ({} bytes) in {} ms", count, file, Files.size(file),
+                 (System.nanoTime() - start) / 1_000_000);
+        return count;
+    }
+
+    // Hibernate does not see the JDBC writes above, so cached tasks and status pages may be stale
+    private void evictSecondLevelCache() {
+        entityManagerFactory.getCache().evict(Task.class);
+        entityManagerFactory.unwrap(SessionFactory.class).getCache().evictQueryRegions();
+    }
+
+    private long writeTo(Path file) throws IOException {
+        CRC32 crc = new CRC32();
+        try (CheckedOutputStream checked = new CheckedOutputStream(Files.newOutputStream(file), crc);
+             DataOutputStream out = new DataOutputStream(new BufferedOutputStream(checked, 1 << 16))) {
+            out.writeInt(MAGIC);
+            out.writeByte(VERSION);
+
+            long[] state = new long[2]; // previous id, count
+            try {
+                jdbcTemplate.query(SELECT_TASKS, rs -> {
+                    try {
+                        long id = rs.getLong(1);
+                        long createdAt = micros(rs.getObject(5, LocalDateTime.class));
+                        writeVarLong(out, id - state[0]);
+                        writeString(out, rs.getString(2), false);
+                        writeString(out, rs.getString(3), true);
+                        out.writeByte(TaskStatus.valueOf(rs.getString(4)).ordinal());
+                        writeVarLong(out, createdAt);
+                        writeVarLong(out, zigzag(micros(rs.getObject(6, LocalDateTime.class)) - createdAt));
+                        state[0] = id;
+                        state[1]++;
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+            out.writeByte(0);
+
+            out.flush();
+            long checksum = crc.getValue();
+            out.writeLong(state[1]);
+            out.writeInt((int) checksum);
+            return state[1];
+        }
+    }
+
+    private long insertAll(Path file, ByteBuffer buffer) {
+        int size = buffer.limit();
+        if (size < Integer.BYTES + 1 + 1 + TRAILER_SIZE || buffer.getInt(0) != MAGIC) {
+            throw new IllegalStateException("Not a task snapshot: " + file);
+        }
+        if (buffer.get(Integer.BYTES) != VERSION) {
+            throw new IllegalStateException("Unsupported task snapshot version " + buffer.get(Integer.BYTES) + ": " + file);
+        }
+        CRC32 crc = new CRC32();
+        crc.update(buffer.duplicate().limit(size - TRAILER_SIZE));
+        long expectedCount = buffer.getLong(size - TRAILER_SIZE);
+        if ((int) crc.getValue() != buffer.getInt(size - Integer.BYTES)) {
+            throw new IllegalStateException("Corrupted task snapshot (checksum mismatch): " + file);
+        }
+
+        ByteBuffer rows = buffer.duplicate().position(Integer.BYTES + 1).limit(size - TRAILER_SIZE);
+        List<Object[]> batch = new ArrayList<>(batchSize);
+        byte[] scratch = new byte[256];
+        long id = 0;
+        long count = 0;
+        long delta;
+        while ((delta = readVarLong(rows)) != 0) {
+            id += delta;
+            int titleLength = readVarInt(rows);
+            scratch = ensureCapacity(scratch, titleLength);
+            rows.get(scratch, 0, titleLength);
+            String title = new String(scratch, 0, titleLength, StandardCharsets.UTF_8);
+
+            String description = null;
+            int descriptionLength = readVarInt(rows) - 1;
+            if (descriptionLength >= 0) {
+                scratch = ensureCapacity(scratch, descriptionLength);
+                rows.get(scratch, 0, descriptionLength);
+                description = new String(scratch, 0, descriptionLength, StandardCharsets.UTF_8);
+            }
+
+            TaskStatus status = STATUSES[rows.get()];
+            long createdAt = readVarLong(rows);
+            long updatedAt = createdAt + unzigzag(readVarLong(rows));
+
+            batch.add(new Object[] {id, title, description, status.name(), timestamp(createdAt), timestamp(updatedAt)});
+            if (batch.size() == batchSize) {
+                insertBatch(batch);
+                batch.clear();
+            }
+            count++;
+        }
+        if (!batch.isEmpty()) {
+            insertBatch(batch);
+        }
+
+        if (count != expectedCount) {
+            throw new IllegalStateException("Corrupted task snapshot (expected " + expectedCount
+                                            + " tasks, found " + count + "): " + file);
+        }
+        if (count > 0) {
+            jdbcTemplate.execute("alter sequence TASKS_SEQ restart with " + (id + SEQUENCE_ALLOCATION_SIZE));
+        }
+        return count;
+    }
+
+    // one transaction per batch: H2 slows down as the undo log of a single large transaction grows
+    private void insertBatch(List<Object[]> batch) {
+        transactionTemplate.executeWithoutResult(tx -> jdbcTemplate.batchUpdate(INSERT_TASK, batch));
+    }
+
+    private static void writeString(DataOutputStream out, String value, boolean nullable) throws IOException {
+        if (value == null) {
+            writeVarLong(out, 0);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarLong(out, nullable ? bytes.length + 1 : bytes.length);
+        out.write(bytes);
+    }
+
+    private static void writeVarLong(DataOutputStream out, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.writeByte((int) (value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte((int) value);
+    }
+
+    private static long readVarLong(ByteBuffer in) {
+        long value = 0;
+        int shift = 0;
+        byte b;
+        do {
+            b = in.get();
+            value |= (long) (b & 0x7F) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0);
+        return value;
+    }
+
+    private static int readVarInt(ByteBuffer in) {
+        return Math.toIntExact(readVarLong(in));
+    }
+
+    private static long zigzag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static long unzigzag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private static byte[] ensureCapacity(byte[] scratch, int length) {
+        return scratch.length >= length ? scratch : new byte[Math.max(length, scratch.length * 2)];
+    }
+
+    // the database keeps microseconds
+    private static long micros(LocalDateTime time) {
+        return time.toEpochSecond(ZoneOffset.UTC) * 1_000_000 + time.getNano() / 1_000;
+    }
+
+    private static LocalDateTime timestamp(long micros) {
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(micros, 1_000_000),
+                                           (int) Math.floorMod(micros, 1_000_000) * 1_000,
+                                           ZoneOffset.UTC);
+    }
+
+}
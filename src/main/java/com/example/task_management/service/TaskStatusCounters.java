@@ -0,0 +1,91 @@
+package com.example.task_management.service;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import com.example.task_management.config.ReplicaRoutingDataSource;
+import com.example.task_management.model.TaskStatus;
+import com.example.task_management.repository.TaskRepository;
+
+
+/**
+ * In-memory number of tasks per {@link TaskStatus}.
+ * <p>
+ * Counters are {@link LongAdder}s, so concurrent writers do not contend on a single value.
+ * Changes made inside a transaction are applied only after it commits. The counters are
+ * reconciled against the database at startup and every {@code task.stats.reconcile-interval},
+ * which bounds any drift caused by writes racing a reconciliation.
+ * </p>
+ */
+@Component
+public class TaskStatusCounters {
+
+    private static final Logger log = LoggerFactory.getLogger(TaskStatusCounters.class);
+
+    private final Map<TaskStatus, LongAdder> counters = new EnumMap<>(TaskStatus.class);
+
+	@Autowired
+    private TaskRepository taskRepository;
+
+
+    public TaskStatusCounters() {
+        for (TaskStatus status : TaskStatus.values()) {
+            counters.put(status, new LongAdder());
+        }
+    }
+
+    public void add(TaskStatus status, long delta) {
+        if (status == null || delta == 0) return;
+        TransactionCallbacks.afterCommit(() -> counters.get(status).add(delta));
+    }
+
+    public void move(TaskStatus from, TaskStatus to) {
+        if (from == null || to == null || from == to) return;
+        TransactionCallbacks.afterCommit(() -> {
+            counters.get(from).decrement();
+            counters.get(to).increment();
+        });
+    }
+
+    public Map<TaskStatus, Long> snapshot() {
+        Map<TaskStatus, Long> snapshot = new EnumMap<>(TaskStatus.class);
+        counters.forEach((status, counter) -> snapshot.put(status, counter.sum()));
+        return snapshot;
+    }
+
+    /**
+     * Replaces the counters with the per-status counts stored in the database, read from the primary
+     * so that a lagging replica cannot undo recent increments.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${task.stats.reconcile-interval:PT5M}",
+               fixedDelayString = "${task.stats.reconcile-interval:PT5M}")
+    public void reconcile() {
+        Map<TaskStatus, Long> counts = new EnumMap<>(TaskStatus.class);
+        List<Object[]> rows = ReplicaRoutingDataSource.onPrimary(taskRepository::countGroupByStatus);
+        for (Object[] row : rows) {
+            counts.put((TaskStatus) row[0], (Long) row[1]);
+        }
+
+        for (TaskStatus status : TaskStatus.values()) {
+            LongAdder counter = counters.get(status);
+            long expected = counts.getOrDefault(status, 0L);
+            long drift = expected - counter.sum();
+            if (drift != 0) {
+                log.debug("Reconciled {} counter by {}", status, drift);
+                // not atomic with the count: a change committed between the query and sum() is counted
+                // twice or lost, until the next reconciliation
+                counter.add(drift);
+            }
+        }
+    }
+
+}
@@ -0,0 +1,202 @@
+package com.example.task_management.service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+
+
+/**
+ * Group commit of single-task writes.
+ * <p>
+ * When {@code task.group-commit.enabled} is set, writes submitted by concurrent requests are queued
+ * and a dispatcher thread runs them in batches, one transaction per batch: it takes the first queued
+ * write, then waits at most {@code task.group-commit.max-wait} (e.g. {@code 500us}) for more, up to
+ * {@code task.group-commit.max-batch-size} writes. The writes join the batch transaction, so their
+ * statements are flushed as JDBC batches and the batch pays a single commit. Each future completes
+ * once the batch has committed, after the after-commit callbacks of the writes have run.
+ * </p>
+ * <p>
+ * If any write of a batch fails, the batch transaction is rolled back, together with the after-commit
+ * work registered by its writes, and the batch is split in two halves that are committed the same way,
+ * down to single writes run in their own transaction: one failing request does not fail the others and
+ * gets its own exception, for about {@code 2 log2(n)} extra transactions rather than {@code n}. A full queue
+ * ({@code task.group-commit.queue-capacity}) rejects the write with a {@link TaskRejectedException}.
+ * When group commit is disabled, writes run directly on the calling thread.
+ * </p>
+ */
+@Component
+public class TaskWriteBatcher {
+
+    private static final Logger log = LoggerFactory.getLogger(TaskWriteBatcher.class);
+
+    private static final long POLL_MILLIS = 100;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${task.group-commit.enabled:false}")
+    private boolean enabled;
+
+    @Value("${task.group-commit.max-batch-size:100}")
+    private int maxBatchSize;
+
+    @Value("${task.group-commit.max-wait:500us}")
+    private Duration maxWait;
+
+    @Value("${task.group-commit.queue-capacity:10000}")
+    private int queueCapacity;
+
+    private BlockingQueue<PendingWrite<?>> queue;
+    private DistributionSummary batchSizes;
+    private Counter retried;
+    private Thread dispatcher;
+    private volatile boolean running;
+
+
+    @PostConstruct
+    public void start() {
+        if (!enabled) return;
+
+        queue = new ArrayBlockingQueue<>(queueCapacity);
+        batchSizes = DistributionSummary.builder("task.group-commit.batch")
+                                        .description("Writes committed per group-commit transaction")
+                                        .register(meterRegistry);
+        retried = Counter.builder("task.group-commit.retried")
+                         .description("Writes re-run in a smaller batch after their batch failed")
+                         .register(meterRegistry);
+
+        running = true;
+        dispatcher = new Thread(this::run, "task-group-commit");
+        dispatcher.setDaemon(true);
+        dispatcher.start();
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        if (dispatcher != null) {
+            dispatcher.join(TimeUnit.SECONDS.toMillis(10));
+        }
+    }
+
+    /**
+     * Runs a write, grouped with concurrent ones when group commit is enabled.
+     *
+     * @param write the write; it must be transactional (typically a {@link TaskService} method)
+     * @return a future completed with the result of the write once it is committed,
+     *         or with its exception
+     * @throws TaskRejectedException if the queue is full
+     */
+    public <T> CompletableFuture<T> submit(Supplier<T> write) {
+        if (!enabled) {
+            return CompletableFuture.completedFuture(write.get());
+        }
+
+        PendingWrite<T> pending = new PendingWrite<>(write);
+        if (!running || !queue.offer(pending)) {
+            throw new TaskRejectedException("Group commit queue is full");
+        }
+        return pending.future;
+    }
+
+    private void run() {
+        List<PendingWrite<?>> batch = new ArrayList<>(maxBatchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingWrite<?> first = queue.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) continue;
+
+                batch.add(first);
+                long deadline = System.nanoTime() + maxWait.toNanos();
+                while (batch.size() < maxBatchSize) {
+                    // take what is already queued without waiting, then wait for the rest
+                    if (queue.drainTo(batch, maxBatchSize - batch.size()) > 0) continue;
+                    long remaining = deadline - System.nanoTime();
+                    if (remaining <= 0) break;
+                    PendingWrite<?> next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next == null) break;
+                    batch.add(next);
+                }
+                commit(batch);
+            } catch (InterruptedException e) {
+                running = false;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void commit(List<PendingWrite<?>> batch) {
+        batchSizes.record(batch.size());
+        commitOrSplit(batch);
+    }
+
+    private void commitOrSplit(List<PendingWrite<?>> writes) {
+        if (writes.size() == 1) {
+            writes.get(0).runAlone();
+            return;
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(tx -> writes.forEach(PendingWrite::execute));
+        } catch (RuntimeException | Error e) {
+            log.debug("Group commit of {} writes failed, splitting it", writes.size(), e);
+            retried.increment(writes.size());
+            int half = writes.size() / 2;
+            commitOrSplit(writes.subList(0, half));
+            commitOrSplit(writes.subList(half, writes.size()));
+            return;
+        }
+        writes.forEach(PendingWrite::complete);
+    }
+
+
+    private static final class PendingWrite<T> {
+
+        private final Supplier<T> write;
+        private final CompletableFuture<T> future = new CompletableFuture<>();
+        private T result;
+
+        private PendingWrite(Supplier<T> write) {
+            this.write = write;
+        }
+
+        private void execute() {
+            result = write.get();
+        }
+
+        private void complete() {
+            future.complete(result);
+        }
+
+        private void runAlone() {
+            try {
+                future.complete(write.get());
+            } catch (RuntimeException | Error e) {
+                future.completeExceptionally(e);
+            }
+        }
+    }
+
+}
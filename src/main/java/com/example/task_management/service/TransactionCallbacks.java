@@ -0,0 +1,37 @@
+package com.example.task_management.service;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+
+/**
+ * Work deferred to the end of the current transaction.
+ * <p>
+ * In-memory views of the tasks (counters, search index, change feed, history queue) must only see
+ * committed writes: their updates are registered here and dropped if the transaction rolls back.
+ * Outside a transaction the work runs immediately.
+ * </p>
+ */
+final class TransactionCallbacks {
+
+    private TransactionCallbacks() {
+    }
+
+    /**
+     * Runs {@code action} once the current transaction has committed, or now if there is none.
+     */
+    static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+}
@@ -0,0 +1,111 @@
+package com.example.task_management.integration_test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.annotation.DirtiesContext;
+import com.example.task_management.config.AdaptiveConcurrencyLimit;
+import com.example.task_management.config.AdmissionControlFilter;
+import com.example.task_management.dto.request.TaskRequest;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+
+/**
+ * Load shedding, with a small per-client bucket so that it empties within the test.
+ */
+@DirtiesContext
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+                properties = {"task.admission.client.rate=0.1", "task.admission.client.burst=5"})
+class TaskAdmissionControlTest {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private AdmissionControlFilter admissionControlFilter;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private String baseUrl;
+    private HttpHeaders headers;
+
+
+    @BeforeEach
+    void setUp() {
+        baseUrl = "http://localhost:" + port + "/api/tasks";
+        headers = new HttpHeaders();
+        headers.setBasicAuth("admin", "admin");
+        headers.setContentType(MediaType.APPLICATION_JSON);
+    }
+
+    @Test
+    void testShedsRequestsOverTheLimits() {
+        // every write slot taken: a write is rejected at once, reads are still admitted
+        AdaptiveConcurrencyLimit writes = admissionControlFilter.getLimit(AdmissionControlFilter.Kind.WRITE);
+        List<AdaptiveConcurrencyLimit.Permit> held = new ArrayList<>();
+        for (AdaptiveConcurrencyLimit.Permit permit; (permit = writes.tryAcquire()) != null; ) {
+            held.add(permit);
+        }
+        ResponseEntity<String> rejected = restTemplate.exchange(
+                baseUrl, HttpMethod.POST,
+                new HttpEntity<>(TaskRequest.builder().title("Shed Task").build(), headers), String.class);
+        held.forEach(permit -> permit.release(false));
+
+        assertThat(rejected.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+        assertThat(rejected.getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("1");
+        assertThat(writes.getInFlight()).isZero();
+
+        // the rejected write took one of the 5 tokens of the client
+        List<HttpStatus> statuses = new ArrayList<>();
+        ResponseEntity<String> response;
+        do {
+            response = restTemplate.exchange(baseUrl + "/stats", HttpMethod.GET, new HttpEntity<>(headers), String.class);
+            statuses.add(response.getStatusCode());
+        } while (response.getStatusCode() == HttpStatus.OK && statuses.size() < 10);
+
+        assertThat(statuses).containsExactly(HttpStatus.OK, HttpStatus.OK, HttpStatus.OK, HttpStatus.OK,
+                                             HttpStatus.TOO_MANY_REQUESTS);
+        assertThat(Long.parseLong(response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER))).isBetween(1L, 10L);
+
+        assertThat(meterRegistry.get("task.admission.rejected").tag("reason", "concurrency").tag("kind", "write")
+                                .counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("task.admission.rejected").tag("reason", "rate")
+                                .counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void testLongRunningRequestsDoNotShrinkTheLimit() throws Exception {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(10, 1, 10, Duration.ofMillis(1), 0.5);
+
+        // an export slower than the target
+        AdaptiveConcurrencyLimit.Permit export = limit.tryAcquire();
+        Thread.sleep(10);
+        export.releaseUnsampled();
+        assertThat(limit.getLimit()).isEqualTo(10);
+        assertThat(limit.getInFlight()).isZero();
+
+        AdaptiveConcurrencyLimit.Permit read = limit.tryAcquire();
+        Thread.sleep(10);
+        read.release(false);
+        assertThat(limit.getLimit()).isEqualTo(5);
+    }
+
+}
@@ -2,6 +2,22 @@ package com.example.task_management.integration_test;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.io.ByteArrayInputStream;
+import java.lang.management.ManagementFactory;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Flow;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPInputStream;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -15,8 +31,18 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import com.example.task_management.dto.request.TaskRequest;
+import com.example.task_management.dto.request.TaskTransitionRequest;
+import com.example.task_management.dto.response.BulkOperationResponse;
+import com.example.task_management.dto.response.TaskBatchItemResponse;
+import com.example.task_management.dto.response.TaskChangeEvent;
+import com.example.task_management.dto.response.TaskImportResponse;
 import com.example.task_management.dto.response.TaskResponse;
+import com.example.task_management.dto.response.TaskStatsResponse;
+import com.example.task_management.dto.response.TaskUpdateResponse;
 import com.example.task_management.model.TaskStatus;
+import com.example.task_management.service.TaskChangeFeed;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 
 
 @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
@@ -28,6 +54,12 @@ class TaskControllerTest {
     @Autowired
     private TestRestTemplate restTemplate;
 
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private TaskChangeFeed taskChangeFeed;
+
     private String baseUrl;
     private HttpHeaders headers;
 
@@ -196,4 +228,760 @@ class TaskControllerTest {
         assertThat(response.getBody()).contains("Task not found");
     }
 
+    @Test
+    void testCreateBatch() {
+        List<TaskRequest> requests = Arrays.asList(
+                TaskRequest.builder().title("Batch 1").status(TaskStatus.PENDING).build(),
+                TaskRequest.builder().title("").build(),
+                TaskRequest.builder().title("Batch 3").status(TaskStatus.COMPLETED).build()
+        );
+
+        ResponseEntity<TaskBatchItemResponse[]> response = restTemplate.exchange(
+                baseUrl + "/batch",
+                HttpMethod.POST,
+                new HttpEntity<>(requests, headers),
+                TaskBatchItemResponse[].class
+        );
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.MULTI_STATUS);
+        TaskBatchItemResponse[] results = response.getBody();
+        assertThat(results).hasSize(3);
+        assertThat(results[0].getStatus()).isEqualTo(201);
+        assertThat(results[0].getTask().getId()).isNotNull();
+        assertThat(results[1].getStatus()).isEqualTo(400);
+        assertThat(results[1].getErrors()).containsEntry("title", "Title is required");
+        assertThat(results[2].getTask().getStatus()).isEqualTo(TaskStatus.COMPLETED);
+    }
+
+    @Test
+    void testCreateBatchRejectsEmptyAndOversizedLists() {
+        ResponseEntity<String> empty = restTemplate.exchange(
+                baseUrl + "/batch", HttpMethod.POST, new HttpEntity<>(List.of(), headers), String.class);
+        assertThat(empty.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+
+        List<TaskRequest> requests = new ArrayList<>();
+        for (int i = 0; i <= 1000; i++) {
+            requests.add(TaskRequest.builder().title("Oversized batch " + i).build());
+        }
+        ResponseEntity<String> oversized = restTemplate.exchange(
+                baseUrl + "/batch", HttpMethod.POST, new HttpEntity<>(requests, headers), String.class);
+        assertThat(oversized.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(oversized.getBody()).contains("At most 1000 tasks");
+    }
+
+    @Test
+    void testImportCsv() {
+        String csv = "id,Title,description,status\r\n"
+                   + "1,CSV Task,\"Math, page \"\"24\"\"\nand 25\",in_progress\r\n"
+                   + "2,,No title,PENDING\r\n"
+                   + "\r\n"
+                   + "3,Bad Status,,DONE\r\n"
+                   + "4,\"CSV Task 2\",,\r\n";
+        headers.setContentType(MediaType.parseMediaType("text/csv"));
+
+        ResponseEntity<TaskImportResponse> response = restTemplate.exchange(
+                baseUrl + "/import", HttpMethod.POST, new HttpEntity<>(csv, headers), TaskImportResponse.class);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.MULTI_STATUS);
+        TaskImportResponse summary = response.getBody();
+        assertThat(summary.getRows()).isEqualTo(4);
+        assertThat(summary.getImported()).isEqualTo(2);
+        assertThat(summary.getFailed()).isEqualTo(2);
+        assertThat(summary.getErrors()).extracting(e -> e.getLine()).containsExactly(4L, 6L);
+        assertThat(summary.getErrors().get(0).getErrors()).containsEntry("title", "Title is required");
+        assertThat(summary.getErrors().get(1).getErrors().get("row")).contains("Invalid status 'DONE'");
+
+        ResponseEntity<TaskResponse[]> found = restTemplate.exchange(
+                baseUrl + "/search?q=CSV Task", HttpMethod.GET, new HttpEntity<>(headers), TaskResponse[].class);
+        assertThat(found.getBody()).anySatisfy(task -> {
+            assertThat(task.getTitle()).isEqualTo("CSV Task");
+            assertThat(task.getDescription()).isEqualTo("Math, page \"24\"\nand 25");
+            assertThat(task.getStatus()).isEqualTo(TaskStatus.IN_PROGRESS);
+        });
+    }
+
+    @Test
+    void testImportNdjsonInSeveralChunks() {
+        StringBuilder ndjson = new StringBuilder();
+        for (int i = 0; i < 1200; i++) {
+            ndjson.append("{\"title\":\"Imported ").append(i).append("\",\"status\":\"COMPLETED\"}\n");
+        }
+        ndjson.append("{\"title\":\"Broken\"\n");
+        ndjson.append("{\"title\":\"Imported last\",\"status\":\"UNKNOWN\"}\n");
+        headers.setContentType(MediaType.APPLICATION_NDJSON);
+        long completedBefore = restTemplate.exchange(baseUrl + "/stats", HttpMethod.GET, new HttpEntity<>(headers),
+                                                     TaskStatsResponse.class).getBody().getByStatus().get(TaskStatus.COMPLETED);
+
+        ResponseEntity<TaskImportResponse> response = restTemplate.exchange(
+                baseUrl + "/import", HttpMethod.POST, new HttpEntity<>(ndjson.toString(), headers), TaskImportResponse.class);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.MULTI_STATUS);
+        TaskImportResponse summary = response.getBody();
+        assertThat(summary.getRows()).isEqualTo(1202);
+        assertThat(summary.getImported()).isEqualTo(1200);
+        assertThat(summary.getErrors()).extracting(e -> e.getLine()).containsExactly(1201L, 1202L);
+        assertThat(summary.getRowsPerSecond()).isPositive();
+
+        long completedAfter = restTemplate.exchange(baseUrl + "/stats", HttpMethod.GET, new HttpEntity<>(headers),
+                                                    TaskStatsResponse.class).getBody().getByStatus().get(TaskStatus.COMPLETED);
+        assertThat(completedAfter - completedBefore).isEqualTo(1200);
+    }
+
+    @Test
+    void testImportCsvWithoutTitleColumn() {
+        headers.setContentType(MediaType.parseMediaType("text/csv"));
+
+        ResponseEntity<String> response = restTemplate.exchange(
+                baseUrl + "/import", HttpMethod.POST, new HttpEntity<>("name,status\nTask,PENDING\n", headers), String.class);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+    }
+
+    @Test
+    void testListTasksWithCursor() {
+        List<Long> createdIds = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            createdIds.add(createTestTask("Cursor " + i, null, TaskStatus.IN_PROGRESS).getId());
+        }
+
+        for (String sort : Arrays.asList("id", "updatedAt")) {
+            List<Long> seenIds = new ArrayList<>();
+            String cursor = "";
+
+            while (cursor != null) {
+                ResponseEntity<TaskResponse[]> response = restTemplate.exchange(
+                        baseUrl + "?status=IN_PROGRESS&size=2&sort=" + sort + "&after=" + cursor,
+                        HttpMethod.GET,
+                        new HttpEntity<>(headers),
+                        TaskResponse[].class
+                );
+
+                assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+                assertThat(response.getBody().length).isLessThanOrEqualTo(2);
+                for (TaskResponse t : response.getBody()) {
+                    assertThat(t.getStatus()).isEqualTo(TaskStatus.IN_PROGRESS);
+                    seenIds.add(t.getId());
+                }
+                cursor = response.getHeaders().getFirst("X-Next-Cursor");
+            }
+
+            assertThat(seenIds).doesNotHaveDuplicates().containsAll(createdIds);
+            if (sort.equals("id")) {
+                assertThat(seenIds).isSorted();
+            }
+        }
+    }
+
+    @Test
+    void testListTasksWithInvalidCursor() {
+        ResponseEntity<String> response = restTemplate.exchange(
+                baseUrl + "?after=not-a-cursor",
+                HttpMethod.GET,
+                new HttpEntity<>(headers),
+                String.class
+        );
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+    }
+
+    @Test
+    void testListTasksWithInvalidPageOrSize() {
+        TaskResponse createdTask = createTestTask("Paged Task", null, TaskStatus.PENDING);
+        String asyncUrl = "http://localhost:" + port + "/api/async/tasks";
+
+        for (String url : List.of(baseUrl + "?after=&size=0", baseUrl + "?size=-1", baseUrl + "?size=1001",
+                                  baseUrl + "?page=-1", baseUrl + "?page=100000000&size=1000",
+                                  baseUrl + "/" + createdTask.getId() + "/history?size=0",
+                                  baseUrl + "/search?q=paged&size=0",
+                                  asyncUrl + "?after=&size=0", asyncUrl + "?page=-1")) {
+            ResponseEntity<String> response = restTemplate.exchange(
+                    url, HttpMethod.GET, new HttpEntity<>(headers), String.class);
+            assertThat(response.getStatusCode()).as(url).isEqualTo(HttpStatus.BAD_REQUEST);
+        }
+
+        ResponseEntity<String> response = restTemplate.exchange(
+                baseUrl + "?size=0", HttpMethod.GET, new HttpEntity<>(headers), String.class);
+        assertThat(response.getBody()).contains("\"size\"");
+    }
+
+    @Test
+    void testGetTaskAfterUpdateAndDeleteIsNotStale() {
+        TaskResponse createdTask = createTestTask("Cached Task", "Math exercises page 24", TaskStatus.PENDING);
+        String taskUrl = baseUrl + "/" + createdTask.getId();
+
+        restTemplate.exchange(taskUrl, HttpMethod.GET, new HttpEntity<>(headers), TaskResponse.class);
+        ResponseEntity<TaskResponse> cachedResponse =
+                restTemplate.exchange(taskUrl, HttpMethod.GET, new HttpEntity<>(headers), TaskResponse.class);
+        assertThat(cachedResponse.getBody().getTitle()).isEqualTo("Cached Task");
+
+        TaskRequest updateReq = TaskRequest.builder()
+                                           .title("Updated Cached Task")
+                                           .status(TaskStatus.COMPLETED)
+                                           .build();
+        restTemplate.exchange(taskUrl, HttpMethod.PUT, new HttpEntity<>(updateReq, headers), TaskResponse.class);
+
+        ResponseEntity<TaskResponse> updatedResponse =
+                restTemplate.exchange(taskUrl, HttpMethod.GET, new HttpEntity<>(headers), TaskResponse.class);
+        assertThat(updatedResponse.getBody().getTitle()).isEqualTo("Updated Cached Task");
+        assertThat(updatedResponse.getBody().getStatus()).isEqualTo(TaskStatus.COMPLETED);
+
+        restTemplate.exchange(taskUrl, HttpMethod.DELETE, new HttpEntity<>(headers), Void.class);
+
+        ResponseEntity<String> deletedResponse =
+                restTemplate.exchange(taskUrl, HttpMethod.GET, new HttpEntity<>(headers), String.class);
+        assertThat(deletedResponse.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+
+        ResponseEntity<String> statsResponse = restTemplate.exchange(
+                "http://localhost:" + port + "/api/cache/stats",
+                HttpMethod.GET,
+                new HttpEntity<>(headers),
+                String.class
+        );
+        assertThat(statsResponse.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(statsResponse.getBody()).contains("\"tasks\"", "hitCount", "missCount", "evictionCount");
+    }
+
+    @Test
+    void testExportTasks() throws Exception {
+        TaskResponse createdTask = createTestTask("Exported Task", "Math exercises page 24", TaskStatus.PENDING);
+        createTestTask("Second Exported Task", null, TaskStatus.PENDING);
+
+        ResponseEntity<String> response = restTemplate.exchange(
+                baseUrl + "/export",
+                HttpMethod.GET,
+                new HttpEntity<>(headers),
+                String.class
+        );
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getHeaders().getContentType().isCompatibleWith(MediaType.APPLICATION_NDJSON)).isTrue();
+
+        assertThat(response.getBody()).endsWith("\n");
+        String[] lines = response.getBody().split("\n");
+        assertThat(lines).hasSizeGreaterThanOrEqualTo(2).allMatch(line -> line.startsWith("{"));
+        List<Long> exportedIds = new ArrayList<>();
+        for (String line : lines) {
+            exportedIds.add(objectMapper.readValue(line, TaskResponse.class).getId());
+        }
+
+        assertThat(exportedIds).isSorted().contains(createdTask.getId());
+    }
+
+    @Test
+    void testAsyncReadEndpoints() throws Exception {
+        TaskResponse createdTask = createTestTask("Async Task", "Read off the servlet thread", TaskStatus.IN_PROGRESS);
+        String asyncUrl = "http://localhost:" + port + "/api/async/tasks";
+
+        ResponseEntity<TaskResponse> getResponse = restTemplate.exchange(
+                asyncUrl + "/" + createdTask.getId(), HttpMethod.GET, new HttpEntity<>(headers), TaskResponse.class);
+        assertThat(getResponse.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(getResponse.getBody().getTitle()).isEqualTo("Async Task");
+
+        HttpHeaders conditional = new HttpHeaders();
+        conditional.addAll(headers);
+        conditional.setIfNoneMatch(getResponse.getHeaders().getETag());
+        ResponseEntity<String> notModified = restTemplate.exchange(
+                asyncUrl + "/" + createdTask.getId(), HttpMethod.GET, new HttpEntity<>(conditional), String.class);
+        assertThat(notModified.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(notModified.getBody()).isNull();
+        assertThat(notModified.getHeaders().getETag()).isEqualTo(getResponse.getHeaders().getETag());
+
+        conditional.setIfNoneMatch("\"" + createdTask.getId() + "-0\"");
+        ResponseEntity<TaskResponse> stale = restTemplate.exchange(
+                asyncUrl + "/" + createdTask.getId(), HttpMethod.GET, new HttpEntity<>(conditional), TaskResponse.class);
+        assertThat(stale.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(stale.getBody().getTitle()).isEqualTo("Async Task");
+
+        ResponseEntity<String> missing = restTemplate.exchange(
+                asyncUrl + "/999999", HttpMethod.GET, new HttpEntity<>(headers), String.class);
+        assertThat(missing.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+
+        ResponseEntity<TaskResponse[]> listResponse = restTemplate.exchange(
+                asyncUrl + "?status=IN_PROGRESS&after=&size=1000",
+                HttpMethod.GET, new HttpEntity<>(headers), TaskResponse[].class);
+        assertThat(listResponse.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(listResponse.getBody()).extracting(TaskResponse::getId).contains(createdTask.getId());
+
+        ResponseEntity<String> exportResponse = restTemplate.exchange(
+                asyncUrl + "/export", HttpMethod.GET, new HttpEntity<>(headers), String.class);
+        assertThat(exportResponse.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(exportResponse.getBody().split("\n")).allMatch(line -> line.startsWith("{"));
+        List<Long> exportedIds = new ArrayList<>();
+        for (String line : exportResponse.getBody().split("\n")) {
+            exportedIds.add(objectMapper.readValue(line, TaskResponse.class).getId());
+        }
+        assertThat(exportedIds).isSorted().contains(createdTask.getId());
+    }
+
+    @Test
+    void testStatsFollowWrites() {
+        TaskStatsResponse before = getStats();
+
+        TaskResponse createdTask = createTestTask("Counted Task", null, TaskStatus.PENDING);
+        TaskStatsResponse afterCreate = getStats();
+        assertThat(afterCreate.getByStatus().get(TaskStatus.PENDING))
+                .isEqualTo(before.getByStatus().get(TaskStatus.PENDING) + 1);
+
+        TaskRequest updateReq = TaskRequest.builder()
+                                           .title("Counted Task")
+                                           .status(TaskStatus.COMPLETED)
+                                           .build();
+        restTemplate.exchange(baseUrl + "/" + createdTask.getId(), HttpMethod.PUT,
+                              new HttpEntity<>(updateReq, headers), TaskResponse.class);
+        TaskStatsResponse afterUpdate = getStats();
+        assertThat(afterUpdate.getByStatus().get(TaskStatus.PENDING))
+                .isEqualTo(before.getByStatus().get(TaskStatus.PENDING));
+        assertThat(afterUpdate.getByStatus().get(TaskStatus.COMPLETED))
+                .isEqualTo(before.getByStatus().get(TaskStatus.COMPLETED) + 1);
+
+        restTemplate.exchange(baseUrl + "/" + createdTask.getId(), HttpMethod.DELETE,
+                              new HttpEntity<>(headers), Void.class);
+        assertThat(getStats().getTotal()).isEqualTo(before.getTotal());
+    }
+
+    @Test
+    void testPatchTask() {
+        TaskResponse createdTask = createTestTask("Patched Task", "Math exercises page 24", TaskStatus.PENDING);
+        String taskUrl = baseUrl + "/" + createdTask.getId();
+
+        TaskRequest patchReq = TaskRequest.builder().status(TaskStatus.IN_PROGRESS).build();
+        ResponseEntity<Void> patchResponse = restTemplate.exchange(
+                taskUrl,
+                HttpMethod.PATCH,
+                new HttpEntity<>(patchReq, headers),
+                Void.class
+        );
+        assertThat(patchResponse.getStatusCode()).isEqualTo(HttpStatus.NO_CONTENT);
+
+        TaskResponse patchedTask = restTemplate.exchange(
+                taskUrl, HttpMethod.GET, new HttpEntity<>(headers), TaskResponse.class).getBody();
+        assertThat(patchedTask.getStatus()).isEqualTo(TaskStatus.IN_PROGRESS);
+        assertThat(patchedTask.getTitle()).isEqualTo("Patched Task");
+        assertThat(patchedTask.getDescription()).isEqualTo("Math exercises page 24");
+        assertThat(patchedTask.getUpdatedAt()).isAfterOrEqualTo(createdTask.getUpdatedAt());
+
+        ResponseEntity<String> notFoundResponse = restTemplate.exchange(
+                baseUrl + "/9999",
+                HttpMethod.PATCH,
+                new HttpEntity<>(patchReq, headers),
+                String.class
+        );
+        assertThat(notFoundResponse.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+    }
+
+    @Test
+    void testConditionalGetWithETag() {
+        TaskResponse createdTask = createTestTask("Cached Task", "Math exercises page 24", TaskStatus.PENDING);
+        String taskUrl = baseUrl + "/" + createdTask.getId();
+
+        ResponseEntity<TaskResponse> first = restTemplate.exchange(
+                taskUrl, HttpMethod.GET, new HttpEntity<>(headers), TaskResponse.class);
+        String etag = first.getHeaders().getETag();
+        assertThat(etag).isNotNull().doesNotStartWith("W/");
+
+        HttpHeaders conditional = new HttpHeaders();
+        conditional.addAll(headers);
+        conditional.setIfNoneMatch(etag);
+        ResponseEntity<String> notModified = restTemplate.exchange(
+                taskUrl, HttpMethod.GET, new HttpEntity<>(conditional), String.class);
+        assertThat(notModified.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(notModified.getBody()).isNull();
+        assertThat(notModified.getHeaders().getETag()).isEqualTo(etag);
+
+        TaskRequest patchReq = TaskRequest.builder().status(TaskStatus.COMPLETED).build();
+        restTemplate.exchange(taskUrl, HttpMethod.PATCH, new HttpEntity<>(patchReq, headers), Void.class);
+
+        ResponseEntity<TaskResponse> modified = restTemplate.exchange(
+                taskUrl, HttpMethod.GET, new HttpEntity<>(conditional), TaskResponse.class);
+        assertThat(modified.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(modified.getBody().getStatus()).isEqualTo(TaskStatus.COMPLETED);
+        assertThat(modified.getHeaders().getETag()).isNotEqualTo(etag);
+
+        conditional.setIfNoneMatch(etag);
+        ResponseEntity<String> missing = restTemplate.exchange(
+                baseUrl + "/9999", HttpMethod.GET, new HttpEntity<>(conditional), String.class);
+        assertThat(missing.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+
+        String pageUrl = baseUrl + "?size=5&after=";
+        ResponseEntity<String> page = restTemplate.exchange(
+                pageUrl, HttpMethod.GET, new HttpEntity<>(headers), String.class);
+        String pageETag = page.getHeaders().getETag();
+        assertThat(pageETag).isNotNull();
+
+        conditional.setIfNoneMatch(pageETag);
+        ResponseEntity<String> pageNotModified = restTemplate.exchange(
+                pageUrl, HttpMethod.GET, new HttpEntity<>(conditional), String.class);
+        assertThat(pageNotModified.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+    }
+
+    @Test
+    void testSummaryViewAndCompression() throws Exception {
+        String longDescription = "Math exercises page 24. ".repeat(200);
+        for (int i = 0; i < 3; i++) {
+            createTestTask("Summary Task " + i, longDescription, TaskStatus.PENDING);
+        }
+
+        ResponseEntity<String> summaries = restTemplate.exchange(
+                baseUrl + "?view=summary&size=2&after=", HttpMethod.GET, new HttpEntity<>(headers), String.class);
+        assertThat(summaries.getStatusCode()).isEqualTo(HttpStatus.OK);
+        JsonNode page = objectMapper.readTree(summaries.getBody());
+        assertThat(page).hasSize(2);
+        assertThat(page.get(0).has("title")).isTrue();
+        assertThat(page.get(0).has("updatedAt")).isTrue();
+        assertThat(page.get(0).has("description")).isFalse();
+
+        String cursor = summaries.getHeaders().getFirst("X-Next-Cursor");
+        ResponseEntity<String> secondPage = restTemplate.exchange(
+                baseUrl + "?view=summary&size=2&after=" + cursor, HttpMethod.GET, new HttpEntity<>(headers), String.class);
+        assertThat(objectMapper.readTree(secondPage.getBody()).get(0).get("id").asLong())
+                .isGreaterThan(page.get(1).get("id").asLong());
+
+        ResponseEntity<String> full = restTemplate.exchange(
+                baseUrl + "?size=2&after=", HttpMethod.GET, new HttpEntity<>(headers), String.class);
+        assertThat(full.getHeaders().getETag()).isNotEqualTo(summaries.getHeaders().getETag());
+
+        ResponseEntity<String> invalidView = restTemplate.exchange(
+                baseUrl + "?view=compact", HttpMethod.GET, new HttpEntity<>(headers), String.class);
+        assertThat(invalidView.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "?size=50"))
+                                         .header(HttpHeaders.AUTHORIZATION, headers.getFirst(HttpHeaders.AUTHORIZATION))
+                                         .header(HttpHeaders.ACCEPT_ENCODING, "gzip")
+                                         .build();
+        HttpResponse<byte[]> compressed = HttpClient.newHttpClient().send(request, HttpResponse.BodyHandlers.ofByteArray());
+        assertThat(compressed.headers().firstValue(HttpHeaders.CONTENT_ENCODING)).hasValue("gzip");
+        assertThat(compressed.headers().firstValue(HttpHeaders.ETAG)).get().asString().startsWith("W/");
+        try (GZIPInputStream body = new GZIPInputStream(new ByteArrayInputStream(compressed.body()))) {
+            TaskResponse[] tasks = objectMapper.readValue(body, TaskResponse[].class);
+            assertThat(tasks).extracting(TaskResponse::getDescription).contains(longDescription);
+        }
+    }
+
+    @Test
+    void testBulkDeleteByIds() {
+        Long first = createTestTask("Bulk 1", null, TaskStatus.PENDING).getId();
+        Long second = createTestTask("Bulk 2", null, TaskStatus.COMPLETED).getId();
+
+        ResponseEntity<BulkOperationResponse> response = restTemplate.exchange(
+                baseUrl + "?ids=" + first + "," + second + ",9999",
+                HttpMethod.DELETE,
+                new HttpEntity<>(headers),
+                BulkOperationResponse.class
+        );
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody().getAffected()).isEqualTo(2);
+
+        ResponseEntity<String> getResponse = restTemplate.exchange(
+                baseUrl + "/" + first, HttpMethod.GET, new HttpEntity<>(headers), String.class);
+        assertThat(getResponse.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+    }
+
+    @Test
+    void testBulkDeleteWithoutFilter() {
+        ResponseEntity<String> response = restTemplate.exchange(
+                baseUrl, HttpMethod.DELETE, new HttpEntity<>(headers), String.class);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+    }
+
+    @Test
+    void testBulkTransitionAndDeleteByStatus() {
+        Long taskId = createTestTask("Stale Task", null, TaskStatus.IN_PROGRESS).getId();
+        LocalDateTime cutoff = LocalDateTime.now().plusSeconds(1);
+
+        TaskTransitionRequest transitionReq = TaskTransitionRequest.builder()
+                                                                   .from(TaskStatus.IN_PROGRESS)
+                                                                   .to(TaskStatus.COMPLETED)
+                                                                   .updatedBefore(cutoff)
+                                                                   .build();
+        ResponseEntity<BulkOperationResponse> transitionResponse = restTemplate.exchange(
+                baseUrl + "/transition",
+                HttpMethod.POST,
+                new HttpEntity<>(transitionReq, headers),
+                BulkOperationResponse.class
+        );
+        assertThat(transitionResponse.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(transitionResponse.getBody().getAffected()).isGreaterThanOrEqualTo(1);
+
+        TaskResponse transitioned = restTemplate.exchange(
+                baseUrl + "/" + taskId, HttpMethod.GET, new HttpEntity<>(headers), TaskResponse.class).getBody();
+        assertThat(transitioned.getStatus()).isEqualTo(TaskStatus.COMPLETED);
+
+        ResponseEntity<BulkOperationResponse> deleteResponse = restTemplate.exchange(
+                baseUrl + "?status=COMPLETED&updatedBefore=" + LocalDateTime.now().plusSeconds(1),
+                HttpMethod.DELETE,
+                new HttpEntity<>(headers),
+                BulkOperationResponse.class
+        );
+        assertThat(deleteResponse.getBody().getAffected()).isGreaterThanOrEqualTo(1);
+
+        ResponseEntity<String> getResponse = restTemplate.exchange(
+                baseUrl + "/" + taskId, HttpMethod.GET, new HttpEntity<>(headers), String.class);
+        assertThat(getResponse.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+    }
+
+    @Test
+    void testMetricsExposed() throws Exception {
+        TaskResponse task = createTestTask("Metrics Task", "Timed", TaskStatus.PENDING);
+        restTemplate.exchange(baseUrl + "/" + task.getId(), HttpMethod.GET, new HttpEntity<>(headers), TaskResponse.class);
+
+        String actuatorUrl = "http://localhost:" + port + "/actuator/metrics/";
+        for (String metric : List.of(
+                "http.server.requests?tag=uri:/api/tasks/{id}",
+                "task.service?tag=method:getById",
+                "http.server.requests.queries?tag=uri:/api/tasks",
+                "hibernate.statements",
+                "hikaricp.connections.acquire")) {
+            URI uri = URI.create(actuatorUrl + metric.replace("{", "%7B").replace("}", "%7D"));
+            ResponseEntity<String> response = restTemplate.exchange(
+                    uri, HttpMethod.GET, new HttpEntity<>(headers), String.class);
+            assertThat(response.getStatusCode()).as(metric).isEqualTo(HttpStatus.OK);
+        }
+
+        ResponseEntity<String> queries = restTemplate.exchange(
+                actuatorUrl + "http.server.requests.queries?tag=uri:/api/tasks&tag=method:POST",
+                HttpMethod.GET, new HttpEntity<>(headers), String.class);
+        double total = objectMapper.readTree(queries.getBody()).at("/measurements/1/value").asDouble();
+        assertThat(total).isGreaterThan(0);
+    }
+
+    @Test
+    void testCachedCredentialsDoNotAcceptWrongPassword() {
+        for (int i = 0; i < 2; i++) {
+            ResponseEntity<String> ok = restTemplate.exchange(
+                    baseUrl + "/stats", HttpMethod.GET, new HttpEntity<>(headers), String.class);
+            assertThat(ok.getStatusCode()).isEqualTo(HttpStatus.OK);
+        }
+
+        HttpHeaders wrongHeaders = new HttpHeaders();
+        wrongHeaders.setBasicAuth("admin", "wrong");
+        ResponseEntity<String> denied = restTemplate.exchange(
+                baseUrl + "/stats", HttpMethod.GET, new HttpEntity<>(wrongHeaders), String.class);
+        assertThat(denied.getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED);
+    }
+
+    @Test
+    void testSearchTasks() {
+        String word = "zq" + System.nanoTime();
+        TaskResponse inTitle = createTestTask("Review " + word + " notes", "Chapter one", TaskStatus.PENDING);
+        TaskResponse inDescription = createTestTask("Other task", "Mentions " + word + " once, chapter two", TaskStatus.PENDING);
+
+        assertThat(search(word)).containsExactly(inTitle.getId(), inDescription.getId());
+        assertThat(search(word.substring(0, word.length() - 3) + "*")).contains(inTitle.getId(), inDescription.getId());
+        assertThat(search(word + " chapter two")).containsExactly(inDescription.getId());
+
+        TaskRequest patch = TaskRequest.builder().title("Renamed").description("Nothing to see").build();
+        restTemplate.exchange(baseUrl + "/" + inTitle.getId(), HttpMethod.PUT, new HttpEntity<>(patch, headers), TaskResponse.class);
+        restTemplate.exchange(baseUrl + "/" + inDescription.getId(), HttpMethod.DELETE, new HttpEntity<>(headers), Void.class);
+        assertThat(search(word)).isEmpty();
+        assertThat(search("renamed")).contains(inTitle.getId());
+
+        ResponseEntity<String> blank = restTemplate.exchange(
+                baseUrl + "/search?q=  ", HttpMethod.GET, new HttpEntity<>(headers), String.class);
+        assertThat(blank.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+    }
+
+    private List<Long> search(String query) {
+        ResponseEntity<TaskResponse[]> response = restTemplate.exchange(
+                baseUrl + "/search?q={q}", HttpMethod.GET, new HttpEntity<>(headers), TaskResponse[].class, query);
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        List<Long> ids = new ArrayList<>();
+        for (TaskResponse task : response.getBody()) {
+            ids.add(task.getId());
+        }
+        return ids;
+    }
+
+    @Test
+    void testTaskHistory() throws Exception {
+        TaskResponse createdTask = createTestTask("History Task", "First version", TaskStatus.PENDING);
+        String taskUrl = baseUrl + "/" + createdTask.getId();
+
+        TaskRequest update = TaskRequest.builder().title("History Task v2").description("First version").build();
+        restTemplate.exchange(taskUrl, HttpMethod.PUT, new HttpEntity<>(update, headers), TaskResponse.class);
+        TaskRequest patch = TaskRequest.builder().status(TaskStatus.IN_PROGRESS).build();
+        restTemplate.exchange(taskUrl, HttpMethod.PATCH, new HttpEntity<>(patch, headers), Void.class);
+
+        // entries are written by the background writer
+        List<TaskUpdateResponse> history = List.of();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (history.size() < 2 && System.nanoTime() < deadline) {
+            Thread.sleep(50);
+            history = Arrays.asList(restTemplate.exchange(taskUrl + "/history", HttpMethod.GET,
+                                                          new HttpEntity<>(headers), TaskUpdateResponse[].class).getBody());
+        }
+
+        assertThat(history).extracting(TaskUpdateResponse::getField).containsExactly("status", "title");
+        assertThat(history.get(0).getOldValue()).isEqualTo("PENDING");
+        assertThat(history.get(0).getNewValue()).isEqualTo("IN_PROGRESS");
+        assertThat(history.get(1).getOldValue()).isEqualTo("History Task");
+        assertThat(history.get(1).getNewValue()).isEqualTo("History Task v2");
+
+        ResponseEntity<TaskUpdateResponse[]> firstPage = restTemplate.exchange(
+                taskUrl + "/history?size=1", HttpMethod.GET, new HttpEntity<>(headers), TaskUpdateResponse[].class);
+        String cursor = firstPage.getHeaders().getFirst("X-Next-Cursor");
+        assertThat(cursor).isEqualTo(history.get(0).getId().toString());
+
+        ResponseEntity<TaskUpdateResponse[]> secondPage = restTemplate.exchange(
+                taskUrl + "/history?size=1&after=" + cursor, HttpMethod.GET, new HttpEntity<>(headers), TaskUpdateResponse[].class);
+        assertThat(secondPage.getBody()).extracting(TaskUpdateResponse::getField).containsExactly("title");
+        assertThat(secondPage.getHeaders().getFirst("X-Next-Cursor")).isNull();
+    }
+
+    @Test
+    void testChangeFeedPublishesAndResumes() throws Exception {
+        HttpClient client = HttpClient.newHttpClient();
+        EventCollector live = subscribe(client, null);
+        awaitSubscribers(1);
+
+        TaskResponse createdTask = createTestTask("Streamed Task", null, TaskStatus.PENDING);
+        TaskChangeEvent created = live.next("created", createdTask.getId());
+        assertThat(created.getTask().getTitle()).isEqualTo("Streamed Task");
+        String createdEventId = live.lastEventId();
+        assertThat(createdEventId).endsWith("-" + created.getId());
+
+        // the event carries the committed version of the task
+        restTemplate.exchange(baseUrl + "/" + createdTask.getId(), HttpMethod.PUT,
+                              new HttpEntity<>(TaskRequest.builder().title("Streamed Task v2").build(), headers),
+                              TaskResponse.class);
+        TaskChangeEvent updated = live.next("updated", createdTask.getId());
+        TaskResponse current = restTemplate.exchange(baseUrl + "/" + createdTask.getId(), HttpMethod.GET,
+                                                     new HttpEntity<>(headers), TaskResponse.class).getBody();
+        assertThat(updated.getTask().getUpdatedAt()).isAfter(createdTask.getUpdatedAt())
+                                                    .isEqualTo(current.getUpdatedAt());
+
+        restTemplate.exchange(baseUrl + "/" + createdTask.getId(), HttpMethod.DELETE, new HttpEntity<>(headers), Void.class);
+        TaskChangeEvent deleted = live.next("deleted", createdTask.getId());
+        assertThat(deleted.getId()).isGreaterThan(updated.getId());
+        live.cancel();
+
+        EventCollector resumed = subscribe(client, createdEventId);
+        assertThat(resumed.next("deleted", createdTask.getId()).getId()).isEqualTo(deleted.getId());
+        resumed.cancel();
+
+        // same sequence number, issued by an earlier process
+        EventCollector restarted = subscribe(client, "1-" + created.getId());
+        restarted.next("reset", null);
+        restarted.cancel();
+    }
+
+    @Test
+    void testChangeFeedHoldsThousandsOfIdleSubscribersOnFewThreads() throws Exception {
+        int subscribers = 2000;
+        int before = taskChangeFeed.subscriberCount();
+        HttpClient client = HttpClient.newHttpClient();
+        List<EventCollector> collectors = new ArrayList<>();
+        for (int i = 0; i < subscribers; i++) {
+            collectors.add(subscribe(client, null));
+        }
+        awaitSubscribers(before + subscribers);
+
+        long requestThreads = Thread.getAllStackTraces().keySet().stream()
+                                    .filter(thread -> thread.getName().contains("-exec-"))
+                                    .count();
+        assertThat(requestThreads).isLessThanOrEqualTo(200);
+        assertThat(ManagementFactory.getThreadMXBean().getThreadCount()).isLessThan(subscribers / 4);
+
+        TaskResponse createdTask = createTestTask("Broadcast Task", null, TaskStatus.PENDING);
+        for (EventCollector collector : collectors) {
+            collector.next("created", createdTask.getId());
+        }
+        collectors.forEach(EventCollector::cancel);
+    }
+
+    private EventCollector subscribe(HttpClient client, String lastEventId) {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(baseUrl + "/changes"))
+                                                 .header(HttpHeaders.AUTHORIZATION, headers.getFirst(HttpHeaders.AUTHORIZATION))
+                                                 .header(HttpHeaders.ACCEPT, MediaType.TEXT_EVENT_STREAM_VALUE);
+        if (lastEventId != null) {
+            request.header("Last-Event-ID", lastEventId);
+        }
+        EventCollector collector = new EventCollector(objectMapper);
+        client.sendAsync(request.build(), HttpResponse.BodyHandlers.fromLineSubscriber(collector));
+        return collector;
+    }
+
+    private void awaitSubscribers(int count) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(60);
+        while (taskChangeFeed.subscriberCount() < count && System.nanoTime() < deadline) {
+            Thread.sleep(50);
+        }
+        assertThat(taskChangeFeed.subscriberCount()).isGreaterThanOrEqualTo(count);
+    }
+
+    /**
+     * Collects the events of one SSE stream.
+     */
+    private static class EventCollector implements Flow.Subscriber<String> {
+
+        private final ObjectMapper objectMapper;
+        private final BlockingQueue<String[]> events = new LinkedBlockingQueue<>();
+        private Flow.Subscription subscription;
+        private String id;
+        private String name;
+        private String lastEventId;
+
+        EventCollector(ObjectMapper objectMapper) {
+            this.objectMapper = objectMapper;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            subscription.request(Long.MAX_VALUE);
+        }
+
+        @Override
+        public void onNext(String line) {
+            if (line.startsWith("id:")) {
+                id = line.substring("id:".length());
+            } else if (line.startsWith("event:")) {
+                name = line.substring("event:".length());
+            } else if (line.startsWith("data:")) {
+                events.add(new String[] {name, line.substring("data:".length()), id});
+            }
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+        }
+
+        @Override
+        public void onComplete() {
+        }
+
+        TaskChangeEvent next(String expectedName, Long taskId) throws Exception {
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+            while (true) {
+                String[] event = events.poll(Math.max(deadline - System.nanoTime(), 0), TimeUnit.NANOSECONDS);
+                assertThat(event).as("event %s for task %s", expectedName, taskId).isNotNull();
+                TaskChangeEvent change = objectMapper.readValue(event[1], TaskChangeEvent.class);
+                if (expectedName.equals(event[0]) && Objects.equals(taskId, change.getTaskId())) {
+                    lastEventId = event[2];
+                    return change;
+                }
+            }
+        }
+
+        String lastEventId() {
+            return lastEventId;
+        }
+
+        void cancel() {
+            if (subscription != null) subscription.cancel();
+        }
+    }
+
+    private TaskStatsResponse getStats() {
+        ResponseEntity<TaskStatsResponse> response = restTemplate.exchange(
+                baseUrl + "/stats",
+                HttpMethod.GET,
+                new HttpEntity<>(headers),
+                TaskStatsResponse.class
+        );
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        return response.getBody();
+    }
+
 }
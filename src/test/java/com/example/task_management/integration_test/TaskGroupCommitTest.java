@@ -0,0 +1,136 @@
+package com.example.task_management.integration_test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.annotation.DirtiesContext;
+import com.example.task_management.dto.request.TaskRequest;
+import com.example.task_management.dto.response.TaskResponse;
+import com.example.task_management.dto.response.TaskStatsResponse;
+import com.example.task_management.model.TaskStatus;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+
+/**
+ * Single-task writes with the group-commit pipeline enabled.
+ * The context is closed afterwards so its server threads do not outlive the class.
+ */
+@DirtiesContext
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+                properties = "task.group-commit.enabled=true")
+class TaskGroupCommitTest {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private String baseUrl;
+    private HttpHeaders headers;
+
+
+    @BeforeEach
+    void setUp() {
+        baseUrl = "http://localhost:" + port + "/api/tasks";
+        headers = new HttpHeaders();
+        headers.setBasicAuth("admin", "admin");
+        headers.setContentType(MediaType.APPLICATION_JSON);
+    }
+
+    @Test
+    void testCreateUpdateAndPatch() {
+        TaskRequest createReq = TaskRequest.builder().title("Grouped").status(TaskStatus.PENDING).build();
+        ResponseEntity<TaskResponse> created = restTemplate.exchange(
+                baseUrl, HttpMethod.POST, new HttpEntity<>(createReq, headers), TaskResponse.class);
+        assertThat(created.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        String taskUrl = baseUrl + "/" + created.getBody().getId();
+
+        TaskRequest updateReq = TaskRequest.builder().title("Grouped again").status(TaskStatus.IN_PROGRESS).build();
+        ResponseEntity<TaskResponse> updated = restTemplate.exchange(
+                taskUrl, HttpMethod.PUT, new HttpEntity<>(updateReq, headers), TaskResponse.class);
+        assertThat(updated.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(updated.getBody().getTitle()).isEqualTo("Grouped again");
+
+        TaskRequest patchReq = TaskRequest.builder().status(TaskStatus.COMPLETED).build();
+        ResponseEntity<Void> patched = restTemplate.exchange(
+                taskUrl, HttpMethod.PATCH, new HttpEntity<>(patchReq, headers), Void.class);
+        assertThat(patched.getStatusCode()).isEqualTo(HttpStatus.NO_CONTENT);
+
+        TaskResponse task = restTemplate.exchange(
+                taskUrl, HttpMethod.GET, new HttpEntity<>(headers), TaskResponse.class).getBody();
+        assertThat(task.getStatus()).isEqualTo(TaskStatus.COMPLETED);
+        assertThat(task.getTitle()).isEqualTo("Grouped again");
+    }
+
+    @Test
+    void testConcurrentWritesIsolateFailures() throws Exception {
+        int writers = 40;
+        TaskStatsResponse before = getStats();
+        ExecutorService clients = Executors.newFixedThreadPool(writers);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<ResponseEntity<String>>> creates = new ArrayList<>();
+        List<Future<ResponseEntity<String>>> missing = new ArrayList<>();
+        try {
+            for (int i = 0; i < writers; i++) {
+                boolean fails = i % 10 == 0;
+                TaskRequest request = TaskRequest.builder().title("Grouped Task " + i).status(TaskStatus.PENDING).build();
+                Callable<ResponseEntity<String>> call = () -> {
+                    start.await();
+                    return fails
+                            ? restTemplate.exchange(baseUrl + "/9999", HttpMethod.PUT, new HttpEntity<>(request, headers), String.class)
+                            : restTemplate.exchange(baseUrl, HttpMethod.POST, new HttpEntity<>(request, headers), String.class);
+                };
+                (fails ? missing : creates).add(clients.submit(call));
+            }
+            start.countDown();
+
+            for (Future<ResponseEntity<String>> create : creates) {
+                assertThat(create.get(30, TimeUnit.SECONDS).getStatusCode()).isEqualTo(HttpStatus.CREATED);
+            }
+            for (Future<ResponseEntity<String>> update : missing) {
+                assertThat(update.get(30, TimeUnit.SECONDS).getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+            }
+        } finally {
+            clients.shutdownNow();
+        }
+
+        // each response is sent after its batch committed, counters included
+        assertThat(getStats().getTotal()).isEqualTo(before.getTotal() + creates.size());
+        ResponseEntity<String> batches = restTemplate.exchange(
+                "http://localhost:" + port + "/actuator/metrics/task.group-commit.batch",
+                HttpMethod.GET, new HttpEntity<>(headers), String.class);
+        assertThat(batches.getStatusCode()).isEqualTo(HttpStatus.OK);
+        double largestBatch = objectMapper.readTree(batches.getBody()).at("/measurements/2/value").asDouble();
+        assertThat(largestBatch).isGreaterThan(1);
+    }
+
+    private TaskStatsResponse getStats() {
+        ResponseEntity<TaskStatsResponse> response = restTemplate.exchange(
+                baseUrl + "/stats", HttpMethod.GET, new HttpEntity<>(headers), TaskStatsResponse.class);
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        return response.getBody();
+    }
+
+}
@@ -0,0 +1,117 @@
+package com.example.task_management.integration_test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import javax.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.annotation.DirtiesContext;
+import com.example.task_management.dto.request.TaskRequest;
+import com.example.task_management.dto.request.TaskTransitionRequest;
+import com.example.task_management.dto.response.TaskResponse;
+import com.example.task_management.model.TaskStatus;
+
+
+/**
+ * Second-level and query cache: repeated reads are hits, and every kind of write invalidates them.
+ */
+@DirtiesContext
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+                properties = {"spring.datasource.url=jdbc:h2:mem:l2cachedb;DB_CLOSE_DELAY=-1",
+                              "task.hibernate-cache.enabled=true"})
+class TaskHibernateCacheTest {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private String baseUrl;
+    private HttpHeaders headers;
+    private Statistics statistics;
+
+
+    @BeforeEach
+    void setUp() {
+        baseUrl = "http://localhost:" + port + "/api/tasks";
+        headers = new HttpHeaders();
+        headers.setBasicAuth("admin", "admin");
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    private TaskResponse create(String title) {
+        return restTemplate.postForEntity(
+                baseUrl, new HttpEntity<>(TaskRequest.builder().title(title).description("original").build(), headers),
+                TaskResponse.class).getBody();
+    }
+
+    private ResponseEntity<TaskResponse> update(Long id, TaskRequest request) {
+        return restTemplate.exchange(baseUrl + "/" + id, HttpMethod.PUT, new HttpEntity<>(request, headers),
+                                     TaskResponse.class);
+    }
+
+    private TaskResponse[] list(TaskStatus status) {
+        return restTemplate.exchange(baseUrl + "?size=100&status=" + status, HttpMethod.GET,
+                                     new HttpEntity<>(headers), TaskResponse[].class).getBody();
+    }
+
+    @Test
+    void testCachedReadsAreInvalidatedByWrites() {
+        TaskResponse first = create("Cached Task 1");
+        TaskResponse second = create("Cached Task 2");
+
+        // the second read of a status page is a query cache hit
+        assertThat(list(TaskStatus.PENDING)).extracting(TaskResponse::getId).contains(first.getId(), second.getId());
+        long queryHits = statistics.getQueryCacheHitCount();
+        assertThat(list(TaskStatus.PENDING)).extracting(TaskResponse::getId).contains(first.getId(), second.getId());
+        assertThat(statistics.getQueryCacheHitCount()).isEqualTo(queryHits + 1);
+
+        // entity update
+        update(first.getId(), TaskRequest.builder().title("Cached Task 1").status(TaskStatus.IN_PROGRESS).build());
+        assertThat(list(TaskStatus.PENDING)).extracting(TaskResponse::getId).doesNotContain(first.getId());
+        assertThat(list(TaskStatus.IN_PROGRESS)).extracting(TaskResponse::getId).contains(first.getId());
+
+        // Criteria update: neither the cached page nor the cached entity may be used afterwards
+        restTemplate.exchange(baseUrl + "/" + first.getId(), HttpMethod.PATCH,
+                              new HttpEntity<>(TaskRequest.builder().description("patched").build(), headers),
+                              Void.class);
+        assertThat(list(TaskStatus.IN_PROGRESS)).filteredOn(task -> task.getId().equals(first.getId()))
+                                                .extracting(TaskResponse::getDescription).containsExactly("patched");
+        ResponseEntity<TaskResponse> updated =
+                update(first.getId(), TaskRequest.builder().title("Cached Task 1 renamed").build());
+        assertThat(updated.getBody().getDescription()).isEqualTo("patched");
+
+        // JPQL bulk update
+        restTemplate.postForEntity(baseUrl + "/transition",
+                                   new HttpEntity<>(TaskTransitionRequest.builder().from(TaskStatus.PENDING)
+                                                                         .to(TaskStatus.COMPLETED).build(), headers),
+                                   String.class);
+        assertThat(list(TaskStatus.PENDING)).extracting(TaskResponse::getId).doesNotContain(second.getId());
+        assertThat(list(TaskStatus.COMPLETED)).extracting(TaskResponse::getId).contains(second.getId());
+
+        // JPQL delete
+        list(TaskStatus.IN_PROGRESS);
+        restTemplate.exchange(baseUrl + "/" + first.getId(), HttpMethod.DELETE, new HttpEntity<>(headers), Void.class);
+        assertThat(list(TaskStatus.IN_PROGRESS)).extracting(TaskResponse::getId).doesNotContain(first.getId());
+        assertThat(restTemplate.exchange(baseUrl + "/" + first.getId(), HttpMethod.PUT,
+                                         new HttpEntity<>(TaskRequest.builder().title("Gone").build(), headers),
+                                         String.class).getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+    }
+
+}
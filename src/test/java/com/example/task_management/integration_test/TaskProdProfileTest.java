@@ -0,0 +1,60 @@
+package com.example.task_management.integration_test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.ApplicationContext;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import com.example.task_management.dto.request.TaskRequest;
+import com.example.task_management.dto.response.TaskResponse;
+
+import io.swagger.v3.oas.models.OpenAPI;
+
+
+/**
+ * Production startup mode: the schema is still created, the development tools are not started.
+ */
+@DirtiesContext
+@ActiveProfiles("prod")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+                properties = "spring.datasource.url=jdbc:h2:mem:proddb;DB_CLOSE_DELAY=-1")
+class TaskProdProfileTest {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private ApplicationContext context;
+
+
+    @Test
+    void testStartsWithoutDevelopmentTools() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setBasicAuth("admin", "admin");
+        headers.setContentType(MediaType.APPLICATION_JSON);
+
+        ResponseEntity<TaskResponse> created = restTemplate.postForEntity(
+                "http://localhost:" + port + "/api/tasks",
+                new HttpEntity<>(TaskRequest.builder().title("Prod Task").build(), headers), TaskResponse.class);
+        assertThat(created.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+
+        assertThat(context.getBeanNamesForType(OpenAPI.class)).isEmpty();
+        assertThat(restTemplate.getForEntity("http://localhost:" + port + "/v3/api-docs", String.class).getStatusCode())
+                .isEqualTo(HttpStatus.NOT_FOUND);
+        assertThat(restTemplate.getForEntity("http://localhost:" + port + "/h2-console/", String.class).getStatusCode())
+                .isEqualTo(HttpStatus.NOT_FOUND);
+    }
+
+}
@@ -0,0 +1,92 @@
+package com.example.task_management.integration_test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.annotation.DirtiesContext;
+import com.example.task_management.dto.request.TaskRequest;
+import com.example.task_management.dto.response.TaskResponse;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+
+/**
+ * Read/write routing with two replica pools on the primary database, standing in for replicas.
+ */
+@DirtiesContext
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+                properties = {"spring.datasource.url=jdbc:h2:mem:replicadb;DB_CLOSE_DELAY=-1",
+                              "task.datasource.replicas=jdbc:h2:mem:replicadb;DB_CLOSE_DELAY=-1,"
+                                                      + "jdbc:h2:mem:replicadb;DB_CLOSE_DELAY=-1",
+                              "task.datasource.read-your-writes=500ms"})
+class TaskReadReplicaTest {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private String baseUrl;
+    private HttpHeaders headers;
+
+
+    @BeforeEach
+    void setUp() {
+        baseUrl = "http://localhost:" + port + "/api/tasks";
+        headers = new HttpHeaders();
+        headers.setBasicAuth("admin", "admin");
+        headers.setContentType(MediaType.APPLICATION_JSON);
+    }
+
+    private double routed(String target) {
+        return meterRegistry.get("task.datasource.routed").tag("target", target).counter().count();
+    }
+
+    private ResponseEntity<TaskResponse[]> list() {
+        return restTemplate.exchange(baseUrl + "?size=5", HttpMethod.GET, new HttpEntity<>(headers), TaskResponse[].class);
+    }
+
+    @Test
+    void testReadsGoToReplicasExceptAfterOwnWrites() throws Exception {
+        TaskResponse created = restTemplate.postForEntity(
+                baseUrl, new HttpEntity<>(TaskRequest.builder().title("Routed Task").build(), headers),
+                TaskResponse.class).getBody();
+
+        // right after the write, the writer reads from the primary
+        double replica0 = routed("replica-0");
+        double replica1 = routed("replica-1");
+        double primary = routed("primary");
+        assertThat(list().getBody()).extracting(TaskResponse::getId).contains(created.getId());
+        assertThat(routed("replica-0") + routed("replica-1")).isEqualTo(replica0 + replica1);
+        assertThat(routed("primary")).isGreaterThan(primary);
+
+        Thread.sleep(600);
+        for (int i = 0; i < 4; i++) {
+            assertThat(list().getBody()).extracting(TaskResponse::getId).contains(created.getId());
+        }
+        assertThat(routed("replica-0")).isGreaterThan(replica0);
+        assertThat(routed("replica-1")).isGreaterThan(replica1);
+
+        // writes always use the primary
+        primary = routed("primary");
+        ResponseEntity<TaskResponse> updated = restTemplate.exchange(
+                baseUrl + "/" + created.getId(), HttpMethod.PUT,
+                new HttpEntity<>(TaskRequest.builder().title("Routed Task 2").build(), headers), TaskResponse.class);
+        assertThat(updated.getBody().getTitle()).isEqualTo("Routed Task 2");
+        assertThat(routed("primary")).isGreaterThan(primary);
+    }
+
+}
@@ -0,0 +1,134 @@
+package com.example.task_management.integration_test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.Statement;
+import javax.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.test.annotation.DirtiesContext;
+import com.example.task_management.dto.request.TaskRequest;
+import com.example.task_management.dto.response.TaskResponse;
+import com.example.task_management.model.TaskStatus;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+
+/**
+ * A replica on a database of its own, which only catches up when the test copies the primary's tasks to it:
+ * reads routed to it see the lag, and neither the task cache nor the Hibernate caches keep what it returned.
+ */
+@DirtiesContext
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+                properties = {"spring.datasource.url=" + TaskReplicaLagTest.PRIMARY_URL,
+                              "task.datasource.replicas=" + TaskReplicaLagTest.REPLICA_URL,
+                              "task.datasource.read-your-writes=200ms",
+                              "task.hibernate-cache.enabled=true"})
+class TaskReplicaLagTest {
+
+    static final String PRIMARY_URL = "jdbc:h2:mem:lagprimarydb;DB_CLOSE_DELAY=-1";
+    static final String REPLICA_URL = "jdbc:h2:mem:lagreplicadb;DB_CLOSE_DELAY=-1";
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private String baseUrl;
+    private HttpHeaders headers;
+    private Statistics statistics;
+
+
+    @BeforeEach
+    void setUp() throws Exception {
+        baseUrl = "http://localhost:" + port + "/api/tasks";
+        headers = new HttpHeaders();
+        headers.setBasicAuth("admin", "admin");
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        replicate();
+    }
+
+    // copies the TASKS table of the primary over the replica's
+    private void replicate() throws Exception {
+        Path script = Files.createTempFile("replica", ".sql");
+        try (Connection primary = DriverManager.getConnection(PRIMARY_URL, "admin", "admin");
+             Connection replica = DriverManager.getConnection(REPLICA_URL, "admin", "admin");
+             Statement fromPrimary = primary.createStatement();
+             Statement toReplica = replica.createStatement()) {
+            fromPrimary.execute("SCRIPT DROP TO '" + script + "' TABLE TASKS");
+            toReplica.execute("RUNSCRIPT FROM '" + script + "'");
+        } finally {
+            Files.deleteIfExists(script);
+        }
+    }
+
+    private double routedToReplica() {
+        return meterRegistry.get("task.datasource.routed").tag("target", "replica-0").counter().count();
+    }
+
+    private TaskResponse get(Long id) {
+        return restTemplate.exchange(baseUrl + "/" + id, HttpMethod.GET, new HttpEntity<>(headers),
+                                     TaskResponse.class).getBody();
+    }
+
+    private TaskResponse[] list() {
+        return restTemplate.exchange(baseUrl + "?size=100&status=" + TaskStatus.PENDING, HttpMethod.GET,
+                                     new HttpEntity<>(headers), TaskResponse[].class).getBody();
+    }
+
+    @Test
+    void testLaggingReplicaDoesNotFillCaches() throws Exception {
+        TaskResponse created = restTemplate.postForEntity(
+                baseUrl, new HttpEntity<>(TaskRequest.builder().title("Lagging v1").build(), headers),
+                TaskResponse.class).getBody();
+        Thread.sleep(300);
+        replicate();
+
+        // the update reaches the primary only
+        restTemplate.exchange(baseUrl + "/" + created.getId(), HttpMethod.PUT,
+                              new HttpEntity<>(TaskRequest.builder().title("Lagging v2").build(), headers),
+                              TaskResponse.class);
+        Thread.sleep(300);
+
+        // a page read from the replica is stale, and is not put into the query or entity cache
+        long queryPuts = statistics.getQueryCachePutCount();
+        long entityPuts = statistics.getSecondLevelCachePutCount();
+        double replicaReads = routedToReplica();
+        assertThat(list()).filteredOn(task -> task.getId().equals(created.getId()))
+                          .extracting(TaskResponse::getTitle).containsExactly("Lagging v1");
+        assertThat(routedToReplica()).isGreaterThan(replicaReads);
+        assertThat(statistics.getQueryCachePutCount()).isEqualTo(queryPuts);
+        assertThat(statistics.getSecondLevelCachePutCount()).isEqualTo(entityPuts);
+
+        // single-task reads fill the task cache from the primary
+        assertThat(get(created.getId()).getTitle()).isEqualTo("Lagging v2");
+        assertThat(get(created.getId()).getTitle()).isEqualTo("Lagging v2");
+
+        // once the replica has caught up, its pages are current
+        replicate();
+        assertThat(list()).filteredOn(task -> task.getId().equals(created.getId()))
+                          .extracting(TaskResponse::getTitle).containsExactly("Lagging v2");
+    }
+
+}
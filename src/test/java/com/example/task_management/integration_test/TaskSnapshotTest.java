@@ -0,0 +1,75 @@
+package com.example.task_management.integration_test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import com.example.task_management.dto.request.TaskRequest;
+import com.example.task_management.dto.response.TaskResponse;
+import com.example.task_management.model.TaskStatus;
+import com.example.task_management.repository.TaskRepository;
+import com.example.task_management.service.TaskService;
+import com.example.task_management.service.TaskSnapshotStore;
+
+
+/**
+ * Snapshot round trip, on a database of its own since the table is emptied.
+ */
+@DirtiesContext
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:snapshotdb;DB_CLOSE_DELAY=-1")
+class TaskSnapshotTest {
+
+    @Autowired
+    private TaskSnapshotStore taskSnapshotStore;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @TempDir
+    Path directory;
+
+
+    @Test
+    void testWriteAndRestore() throws Exception {
+        taskService.create(TaskRequest.builder().title("Snapshot Task").description("Math exercises page 24").build());
+        taskService.create(TaskRequest.builder().title("Tâche sans description ✓").status(TaskStatus.COMPLETED).build());
+        TaskResponse updated = taskService.create(TaskRequest.builder().title("Updated Task").description("").build());
+        taskService.update(updated.getId(), TaskRequest.builder().title("Updated Task").status(TaskStatus.IN_PROGRESS).build());
+        List<TaskResponse> before = taskRepository.findDtoAfterOrderById(0L, PageRequest.of(0, 1000));
+
+        Path file = directory.resolve("tasks.snapshot");
+        assertThat(taskSnapshotStore.write(file)).isEqualTo(before.size());
+
+        jdbcTemplate.update("delete from TASKS");
+        assertThat(taskSnapshotStore.restore(file)).isEqualTo(before.size());
+        assertThat(taskRepository.findDtoAfterOrderById(0L, PageRequest.of(0, 1000))).isEqualTo(before);
+
+        long lastId = before.get(before.size() - 1).getId();
+        TaskResponse next = taskService.create(TaskRequest.builder().title("After Restore").build());
+        assertThat(next.getId()).isGreaterThan(lastId);
+
+        byte[] bytes = Files.readAllBytes(file);
+        bytes[bytes.length / 2] ^= 0x10;
+        Files.write(file, bytes);
+        jdbcTemplate.update("delete from TASKS");
+        assertThatThrownBy(() -> taskSnapshotStore.restore(file))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("checksum");
+        assertThat(taskRepository.count()).isZero();
+    }
+
+}
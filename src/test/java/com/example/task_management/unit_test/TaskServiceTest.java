@@ -4,7 +4,10 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.Mockito.doNothing;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -12,6 +15,7 @@ import static org.mockito.Mockito.when;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
@@ -19,16 +23,27 @@ import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
+import org.springframework.cache.CacheManager;
+import org.springframework.core.task.TaskRejectedException;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+import com.example.task_management.dto.response.BulkOperationResponse;
 import com.example.task_management.dto.request.TaskRequest;
 import com.example.task_management.dto.response.TaskResponse;
 import com.example.task_management.factory.TaskFactory;
 import com.example.task_management.model.Task;
 import com.example.task_management.model.TaskStatus;
+import com.example.task_management.repository.TaskPatchedFields;
 import com.example.task_management.repository.TaskRepository;
+import com.example.task_management.service.TaskChangeFeed;
+import com.example.task_management.service.TaskHistoryWriter;
+import com.example.task_management.service.TaskSearchIndex;
 import com.example.task_management.service.TaskServiceImpl;
+import com.example.task_management.service.TaskStatusCounters;
 
 
 class TaskServiceTest {
@@ -39,6 +54,24 @@ class TaskServiceTest {
     @Mock
     private TaskFactory taskFactory;
 
+    @Mock
+    private TaskStatusCounters taskStatusCounters;
+
+    @Mock
+    private TaskSearchIndex taskSearchIndex;
+
+    @Mock
+    private TaskChangeFeed taskChangeFeed;
+
+    @Mock
+    private TaskHistoryWriter taskHistoryWriter;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private CacheManager cacheManager;
+
     @InjectMocks
     private TaskServiceImpl taskService;
 
@@ -49,6 +82,8 @@ class TaskServiceTest {
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
+        when(transactionTemplate.execute(any()))
+            .thenAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
 
         taskRequest = TaskRequest.builder()
                                  .title("Finish homework")
@@ -78,23 +113,21 @@ class TaskServiceTest {
 
     @Test
     void testGetByIdFound() {
-        when(taskRepository.findById(1L)).thenReturn(Optional.of(task));
-        when(taskFactory.toDto(task)).thenReturn(taskResponse);
+        when(taskRepository.findDtoById(1L)).thenReturn(Optional.of(taskResponse));
 
         TaskResponse result = taskService.getById(1L);
 
         assertNotNull(result);
         assertEquals("Finish homework", result.getTitle());
-        verify(taskRepository, times(1)).findById(1L);
+        verify(taskRepository, times(1)).findDtoById(1L);
     }
 
     @Test
     void testGetByIdNotFound() {
-        when(taskRepository.findById(2L)).thenReturn(Optional.empty());
-        when(taskFactory.toDto(task)).thenReturn(taskResponse);
+        when(taskRepository.findDtoById(2L)).thenReturn(Optional.empty());
 
         assertThrows(NoSuchElementException.class, () -> taskService.getById(2L));
-        verify(taskRepository, times(1)).findById(2L);
+        verify(taskRepository, times(1)).findDtoById(2L);
     }
 
     @Test
@@ -108,6 +141,7 @@ class TaskServiceTest {
         assertNotNull(result);
         assertEquals("Finish homework", result.getTitle());
         verify(taskRepository, times(1)).save(task);
+        verify(taskStatusCounters, times(1)).add(TaskStatus.PENDING, 1);
     }
 
     @Test
@@ -136,45 +170,137 @@ class TaskServiceTest {
                                                    .updatedAt(task.getUpdatedAt())
                                                    .build();
 
-        when(taskRepository.findById(1L)).thenReturn(Optional.of(task));
-        when(taskRepository.save(any(Task.class))).thenReturn(updatedTask);
+        when(taskRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(task));
+        when(taskRepository.saveAndFlush(any(Task.class))).thenReturn(updatedTask);
         when(taskFactory.toDto(updatedTask)).thenReturn(updatedResponse);
 
         TaskResponse result = taskService.update(1L, updateReq);
 
         assertEquals("Updated Task", result.getTitle());
         assertEquals(TaskStatus.IN_PROGRESS, result.getStatus());
-        verify(taskRepository, times(1)).save(any(Task.class));
+        verify(taskRepository, times(1)).saveAndFlush(any(Task.class));
+        verify(taskChangeFeed, times(1)).updated(updatedResponse);
+    }
+
+    @Test
+    void testPatchStatusOnly() {
+        TaskRequest patchReq = TaskRequest.builder().status(TaskStatus.COMPLETED).build();
+
+        TaskPatchedFields previous = new TaskPatchedFields(1L, "Finish homework", TaskStatus.PENDING, false, null);
+        when(taskRepository.findPatchedFieldsById(1L, false)).thenReturn(Optional.of(previous));
+        when(taskRepository.patchById(eq(1L), isNull(), isNull(), eq(TaskStatus.COMPLETED), any(LocalDateTime.class)))
+            .thenReturn(1);
+
+        taskService.patch(1L, patchReq);
+
+        verify(taskRepository, never()).findById(1L);
+        verify(taskRepository, never()).save(any(Task.class));
+        verify(taskStatusCounters, times(1)).move(TaskStatus.PENDING, TaskStatus.COMPLETED);
+        verify(taskHistoryWriter, times(1)).patched(previous, null, null, TaskStatus.COMPLETED);
+    }
+
+    @Test
+    void testPatchNotExists() {
+        TaskRequest patchReq = TaskRequest.builder().title("Updated Task").build();
+
+        when(taskRepository.findPatchedFieldsById(2L, false)).thenReturn(Optional.empty());
+
+        assertThrows(NoSuchElementException.class, () -> taskService.patch(2L, patchReq));
+        verify(taskRepository, never()).patchById(any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void testPatchDeletedMeanwhile() {
+        TaskRequest patchReq = TaskRequest.builder().title("Updated Task").build();
+
+        when(taskRepository.findPatchedFieldsById(2L, false))
+            .thenReturn(Optional.of(new TaskPatchedFields(2L, "Finish homework", TaskStatus.PENDING, false, null)));
+        when(taskRepository.patchById(eq(2L), eq("Updated Task"), isNull(), isNull(), any(LocalDateTime.class)))
+            .thenReturn(0);
+
+        assertThrows(NoSuchElementException.class, () -> taskService.patch(2L, patchReq));
+        verify(taskHistoryWriter, never()).patched(any(), any(), any(), any());
+        verify(taskStatusCounters, never()).move(any(), any());
     }
 
     @Test
     void testDeleteExists() {
-        when(taskRepository.existsById(1L)).thenReturn(true);
-        doNothing().when(taskRepository).deleteById(1L);
+        when(taskRepository.findStatusById(1L)).thenReturn(Optional.of(TaskStatus.PENDING));
+        when(taskRepository.deleteByIds(List.of(1L))).thenReturn(1);
 
         taskService.delete(1L);
-        verify(taskRepository, times(1)).deleteById(1L);
+        verify(taskRepository, times(1)).deleteByIds(List.of(1L));
+        verify(taskRepository, never()).findById(1L);
+        verify(taskStatusCounters, times(1)).add(TaskStatus.PENDING, -1);
+    }
+
+    @Test
+    void testPatchRejectedWhileHistoryQueueFull() {
+        TaskRequest patchReq = TaskRequest.builder().status(TaskStatus.COMPLETED).build();
+        doThrow(new TaskRejectedException("full")).when(taskHistoryWriter).awaitCapacity();
+
+        assertThrows(TaskRejectedException.class, () -> taskService.patch(1L, patchReq));
+        verify(transactionTemplate, never()).execute(any());
+        verify(taskRepository, never()).patchById(any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void testDeleteDeletedMeanwhile() {
+        when(taskRepository.findStatusById(1L)).thenReturn(Optional.of(TaskStatus.PENDING));
+        when(taskRepository.deleteByIds(List.of(1L))).thenReturn(0);
+
+        assertThrows(NoSuchElementException.class, () -> taskService.delete(1L));
+        verify(taskStatusCounters, never()).add(any(), any(Long.class));
+        verify(taskSearchIndex, never()).remove(any());
+        verify(taskChangeFeed, never()).deleted(any());
     }
 
     @Test
     void testDeleteNotExists() {
-        when(taskRepository.existsById(2L)).thenReturn(false);
+        when(taskRepository.findStatusById(2L)).thenReturn(Optional.empty());
 
         assertThrows(NoSuchElementException.class, () -> taskService.delete(2L));
     }
 
+    @Test
+    void testDeleteMatchingSkipsRowsChangedSinceSelected() {
+        ReflectionTestUtils.setField(taskService, "bulkChunkSize", 10);
+        when(taskRepository.findIdChunk(TaskStatus.COMPLETED, null, 0L, 10)).thenReturn(List.of(1L, 2L));
+        // task 2 was reopened between the selection and the lock
+        when(taskRepository.lockStatusesById(List.of(1L, 2L), TaskStatus.COMPLETED, null))
+            .thenReturn(Map.of(1L, TaskStatus.COMPLETED));
+        when(taskRepository.deleteByIds(List.of(1L))).thenReturn(1);
+
+        BulkOperationResponse result = taskService.deleteMatching(TaskStatus.COMPLETED, null);
+
+        assertEquals(1, result.getAffected());
+        verify(taskRepository, never()).deleteByIds(List.of(1L, 2L));
+        verify(taskStatusCounters, times(1)).add(TaskStatus.COMPLETED, -1L);
+        verify(taskSearchIndex, times(1)).remove(List.of(1L));
+        verify(taskChangeFeed, times(1)).deleted(List.of(1L));
+    }
+
     @Test
     void testGetDtoListAll() {
-        List<Task> tasks = Arrays.asList(task);
-        Page<Task> tasksPage = new PageImpl<>(tasks);
+        Slice<TaskResponse> tasksPage = new SliceImpl<>(Arrays.asList(taskResponse));
 
-        when(taskRepository.findAll(PageRequest.of(0, 10))).thenReturn(tasksPage);
-        when(taskFactory.toDtoList(tasks)).thenReturn(Arrays.asList(taskResponse));
+        when(taskRepository.findDtoBy(PageRequest.of(0, 10))).thenReturn(tasksPage);
 
         List<TaskResponse> result = taskService.getDtoList(null, 0, 10);
 
         assertEquals(1, result.size());
-        verify(taskRepository, times(1)).findAll(PageRequest.of(0, 10));
+        verify(taskRepository, times(1)).findDtoBy(PageRequest.of(0, 10));
+    }
+
+    @Test
+    void testSearchKeepsIndexRanking() {
+        TaskResponse second = TaskResponse.builder().id(2L).title("Homework").status(TaskStatus.PENDING).build();
+        when(taskSearchIndex.search("homework", 10)).thenReturn(List.of(2L, 1L));
+        when(taskRepository.findDtoByIdIn(List.of(2L, 1L))).thenReturn(List.of(taskResponse, second));
+
+        List<TaskResponse> result = taskService.search("homework", 10);
+
+        assertEquals(List.of(second, taskResponse), result);
     }
 
 }